@@ -0,0 +1,45 @@
+package com.genz.translator.benchmark;
+
+import com.genz.translator.dictionary.DictionaryEntry;
+import com.genz.translator.dictionary.TermAutomaton;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of compiling a dictionary snapshot, which bounds how quickly a term change can be served.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DictionaryCompileBenchmark {
+
+    @Param({DictionaryFixtures.SEED, "10000", "100000"})
+    public String dictionarySize;
+
+    private List<DictionaryEntry> dictionary;
+
+    @Setup
+    public void setUp() {
+        dictionary = DictionaryFixtures.dictionary(dictionarySize);
+    }
+
+    @Benchmark
+    public TermAutomaton compile() {
+        return TermAutomaton.compile(dictionary);
+    }
+}
@@ -0,0 +1,109 @@
+package com.genz.translator.benchmark;
+
+import com.genz.translator.dictionary.DictionaryEntry;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Deterministic dictionaries and inputs for the translation benchmarks.
+ */
+final class DictionaryFixtures {
+
+    static final String SEED = "seed";
+
+    private static final Pattern SEED_ROW = Pattern.compile("^\\('((?:[^']|'')*)', '((?:[^']|'')*)'", Pattern.MULTILINE);
+    private static final String[] FILLER = {
+            "the", "and", "this", "was", "honestly", "party", "last", "night", "we", "went",
+            "to", "food", "spot", "downtown", "my", "friend", "said", "it", "is", "okay"
+    };
+
+    private DictionaryFixtures() {}
+
+    /**
+     * @param size {@value #SEED} for the terms seeded by database/init.sql, otherwise a number of
+     *             terms made of the seed plus synthetic entries
+     */
+    static List<DictionaryEntry> dictionary(String size) {
+        List<DictionaryEntry> entries = seedTerms();
+        if (SEED.equals(size)) {
+            return entries;
+        }
+        int target = Integer.parseInt(size);
+        Random random = new Random(42);
+        long id = entries.size() + 1;
+        while (entries.size() < target) {
+            String word = syntheticWord(random);
+            entries.add(new DictionaryEntry(id++, word, "translation of " + word));
+        }
+        return entries;
+    }
+
+    /**
+     * Builds roughly {@code length} characters of text in which about {@code hitDensity} of the
+     * words are dictionary terms.
+     */
+    static String input(List<DictionaryEntry> dictionary, int length, double hitDensity) {
+        Random random = new Random(7);
+        StringBuilder text = new StringBuilder(length + 32);
+        while (text.length() < length) {
+            if (text.length() > 0) {
+                text.append(' ');
+            }
+            if (random.nextDouble() < hitDensity) {
+                text.append(dictionary.get(random.nextInt(dictionary.size())).getGenzText());
+            } else {
+                text.append(FILLER[random.nextInt(FILLER.length)]);
+            }
+        }
+        return text.toString();
+    }
+
+    private static List<DictionaryEntry> seedTerms() {
+        String sql;
+        try {
+            sql = Files.readString(locateInitSql());
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        List<DictionaryEntry> entries = new ArrayList<>();
+        Matcher matcher = SEED_ROW.matcher(sql);
+        long id = 1;
+        while (matcher.find()) {
+            entries.add(new DictionaryEntry(id++, unquote(matcher.group(1)), unquote(matcher.group(2))));
+        }
+        if (entries.isEmpty()) {
+            throw new IllegalStateException("No seed terms found in database/init.sql");
+        }
+        return entries;
+    }
+
+    private static Path locateInitSql() {
+        for (Path candidate : List.of(Path.of("../database/init.sql"), Path.of("database/init.sql"))) {
+            if (Files.exists(candidate)) {
+                return candidate;
+            }
+        }
+        throw new IllegalStateException("Run benchmarks from the backend or repository root directory");
+    }
+
+    private static String syntheticWord(Random random) {
+        int length = 3 + random.nextInt(8);
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = (char) ('a' + random.nextInt(26));
+        }
+        return new String(chars);
+    }
+
+    private static String unquote(String value) {
+        return value.replace("''", "'");
+    }
+}
@@ -0,0 +1,115 @@
+package com.genz.translator.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Closed-loop HTTP load against a running backend, for comparing server configurations end to end
+ * (platform against virtual request threads, connection pool settings) where JMH's in-process
+ * benchmarks cannot reach. Each of {@code concurrency} workers sends its next request as soon as
+ * the previous one completes; after a warmup the run reports throughput, error count and latency
+ * percentiles.
+ * <p>
+ * Being closed-loop, a stalled server also slows the load down, so the tail is understated
+ * compared with a fixed-rate generator. Use it to compare two configurations under identical
+ * load, not to quote absolute latencies.
+ * <p>
+ * It needs nothing beyond the JDK, so after {@code mvn -Pbenchmark test-compile} run
+ * {@code java -cp target/test-classes com.genz.translator.benchmark.HttpLoadTest <url> <concurrency>
+ * <seconds> <warmup-seconds>}.
+ */
+public final class HttpLoadTest {
+
+    private HttpLoadTest() {
+    }
+
+    private record WorkerResult(long[] latenciesNanos, int count, int errors) {}
+
+    public static void main(String[] args) throws Exception {
+        URI uri = URI.create(args.length > 0 ? args[0] : "http://localhost:8080/api/history?limit=20");
+        int concurrency = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+        long measureNanos = TimeUnit.SECONDS.toNanos(args.length > 2 ? Long.parseLong(args[2]) : 30);
+        long warmupNanos = TimeUnit.SECONDS.toNanos(args.length > 3 ? Long.parseLong(args[3]) : 10);
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(60)).GET().build();
+
+        long start = System.nanoTime();
+        long measureFrom = start + warmupNanos;
+        long measureUntil = measureFrom + measureNanos;
+
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+        List<Future<WorkerResult>> futures = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            futures.add(workers.submit(() -> runWorker(client, request, measureFrom, measureUntil)));
+        }
+
+        long[] latencies = new long[0];
+        int total = 0;
+        int errors = 0;
+        for (Future<WorkerResult> future : futures) {
+            WorkerResult result = future.get();
+            latencies = Arrays.copyOf(latencies, total + result.count());
+            System.arraycopy(result.latenciesNanos(), 0, latencies, total, result.count());
+            total += result.count();
+            errors += result.errors();
+        }
+        workers.shutdown();
+        Arrays.sort(latencies);
+
+        double seconds = measureNanos / 1e9;
+        System.out.printf("url=%s concurrency=%d duration=%.0fs%n", uri, concurrency, seconds);
+        System.out.printf("requests=%d errors=%d throughput=%.1f req/s%n", total, errors, total / seconds);
+        System.out.printf("latency ms: p50=%.2f p90=%.2f p99=%.2f p99.9=%.2f max=%.2f%n",
+                percentile(latencies, 0.50), percentile(latencies, 0.90), percentile(latencies, 0.99),
+                percentile(latencies, 0.999), total == 0 ? 0 : latencies[total - 1] / 1e6);
+    }
+
+    private static WorkerResult runWorker(HttpClient client, HttpRequest request, long measureFrom, long measureUntil) {
+        long[] latencies = new long[1024];
+        int count = 0;
+        int errors = 0;
+        long now;
+        while ((now = System.nanoTime()) < measureUntil) {
+            boolean ok;
+            try {
+                ok = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() < 400;
+            } catch (Exception ex) {
+                ok = false;
+            }
+            long end = System.nanoTime();
+            if (now < measureFrom) {
+                continue;
+            }
+            if (!ok) {
+                errors++;
+            }
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = end - now;
+        }
+        return new WorkerResult(latencies, count, errors);
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.min(sorted.length - 1, Math.ceil(quantile * sorted.length) - 1);
+        return sorted[Math.max(0, index)] / 1e6;
+    }
+}
@@ -0,0 +1,61 @@
+package com.genz.translator.benchmark;
+
+import com.genz.translator.dictionary.DictionaryEntry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * The per-term regex loop translateText used before the automaton, kept as a reference point.
+ * Only the seed dictionary is measured; at 10k+ terms this approach is impractically slow.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LegacyRegexBenchmark {
+
+    @Param({"64", "1024", "16384"})
+    public int inputLength;
+
+    @Param({"0.0", "0.1", "0.5"})
+    public double hitDensity;
+
+    private List<DictionaryEntry> dictionary;
+    private String input;
+
+    @Setup
+    public void setUp() {
+        dictionary = DictionaryFixtures.dictionary(DictionaryFixtures.SEED);
+        input = DictionaryFixtures.input(dictionary, inputLength, hitDensity);
+    }
+
+    @Benchmark
+    public String translate() {
+        String translatedText = input;
+        List<String> termsFound = new ArrayList<>();
+        for (DictionaryEntry term : dictionary) {
+            Pattern pattern = Pattern.compile("\\b" + Pattern.quote(term.getGenzText()) + "\\b", Pattern.CASE_INSENSITIVE);
+            if (pattern.matcher(translatedText).find()) {
+                translatedText = pattern.matcher(translatedText).replaceAll(term.getTranslation());
+                termsFound.add(term.getGenzText());
+            }
+        }
+        return translatedText;
+    }
+}
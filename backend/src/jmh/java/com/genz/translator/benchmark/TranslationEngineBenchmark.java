@@ -0,0 +1,57 @@
+package com.genz.translator.benchmark;
+
+import com.genz.translator.dictionary.DictionaryEntry;
+import com.genz.translator.dictionary.DictionaryMatch;
+import com.genz.translator.dictionary.TermAutomaton;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hot path of {@code TranslationService.translateText}: one automaton pass over the input.
+ * Throughput mode gives ops/s, sample mode gives the latency percentiles, and {@code -prof gc}
+ * adds the allocation rate per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TranslationEngineBenchmark {
+
+    @Param({DictionaryFixtures.SEED, "10000", "100000"})
+    public String dictionarySize;
+
+    @Param({"64", "1024", "16384"})
+    public int inputLength;
+
+    @Param({"0.0", "0.1", "0.5"})
+    public double hitDensity;
+
+    private TermAutomaton automaton;
+    private String input;
+
+    @Setup
+    public void setUp() {
+        List<DictionaryEntry> dictionary = DictionaryFixtures.dictionary(dictionarySize);
+        automaton = TermAutomaton.compile(dictionary);
+        input = DictionaryFixtures.input(dictionary, inputLength, hitDensity);
+    }
+
+    @Benchmark
+    public DictionaryMatch translate() {
+        return automaton.translate(input);
+    }
+}
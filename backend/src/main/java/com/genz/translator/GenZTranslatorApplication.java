@@ -2,9 +2,11 @@ package com.genz.translator;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.web.bind.annotation.CrossOrigin;
 
 @SpringBootApplication
+@EnableScheduling
 public class GenZTranslatorApplication {
     public static void main(String[] args) {
         SpringApplication.run(GenZTranslatorApplication.class, args);
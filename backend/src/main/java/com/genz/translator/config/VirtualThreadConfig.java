@@ -0,0 +1,60 @@
+package com.genz.translator.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnJava;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.system.JavaVersion;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Extra wiring for when requests run on virtual threads ({@code spring.threads.virtual.enabled},
+ * Java 21 and later). Spring Boot itself moves Tomcat, {@code @Async} and {@code @Scheduled} onto
+ * virtual threads; this puts a {@link ConnectionLimitingDataSource} sized to the Hikari pool in
+ * front of it. On platform threads the bounded Tomcat pool already limits how many requests can
+ * want a connection, so nothing here is active.
+ * <p>
+ * Spring Boot quietly stays on platform threads when the property is set on an older JVM. That
+ * would hide a misbuilt image, so startup fails instead.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty("spring.threads.virtual.enabled")
+public class VirtualThreadConfig {
+
+    // Hikari reports -1 until the pool starts and then falls back to this
+    private static final int HIKARI_DEFAULT_POOL_SIZE = 10;
+
+    @Bean
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    static BeanPostProcessor connectionLimitingDataSourcePostProcessor(
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${translator.db.permit-timeout-ms:30000}") long permitTimeoutMs) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource hikari) {
+                    int poolSize = hikari.getMaximumPoolSize() > 0 ? hikari.getMaximumPoolSize() : HIKARI_DEFAULT_POOL_SIZE;
+                    return new ConnectionLimitingDataSource(hikari, poolSize, permitTimeoutMs, meterRegistry.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+
+    // A bean factory post-processor runs before any other bean, so nothing has connected yet
+    @Bean
+    @ConditionalOnJava(value = JavaVersion.TWENTY_ONE, range = ConditionalOnJava.Range.OLDER_THAN)
+    static BeanFactoryPostProcessor virtualThreadsUnsupported() {
+        return beanFactory -> {
+            throw new IllegalStateException("spring.threads.virtual.enabled (VIRTUAL_THREADS) needs Java 21 or later, "
+                    + "but this JVM is Java " + Runtime.version().feature());
+        };
+    }
+}
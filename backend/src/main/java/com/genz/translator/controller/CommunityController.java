@@ -2,29 +2,81 @@ package com.genz.translator.controller;
 
 import com.genz.translator.dto.community.*;
 import com.genz.translator.model.community.VibeVisibility;
+import com.genz.translator.security.UserPrincipal;
+import com.genz.translator.security.jwt.JwtService;
 import com.genz.translator.service.CommunityService;
+import com.genz.translator.service.LiveFeedBroadcaster;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
 @RestController
 @RequestMapping("/api/community")
-@CrossOrigin(origins = {"http://localhost:3000", "http://frontend:3000"})
+@CrossOrigin(origins = {"http://localhost:3000", "http://frontend:3000"}, exposedHeaders = CommunityController.NEXT_CURSOR_HEADER)
 public class CommunityController {
 
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final CommunityService communityService;
+    private final LiveFeedBroadcaster liveFeedBroadcaster;
+    private final JwtService jwtService;
 
-    public CommunityController(CommunityService communityService) {
+    public CommunityController(CommunityService communityService,
+                               LiveFeedBroadcaster liveFeedBroadcaster,
+                               JwtService jwtService) {
         this.communityService = communityService;
+        this.liveFeedBroadcaster = liveFeedBroadcaster;
+        this.jwtService = jwtService;
     }
 
     @GetMapping("/vibes")
     public ResponseEntity<List<VibeResponse>> feed(@RequestParam(required = false) String persona,
                                                     @RequestParam(required = false) String tag,
-                                                    @RequestParam(required = false) VibeVisibility visibility) {
-        return ResponseEntity.ok(communityService.getFeed(persona, tag, visibility));
+                                                    @RequestParam(required = false) VibeVisibility visibility,
+                                                    @RequestParam(required = false) FeedSort sort,
+                                                    @RequestParam(required = false) String cursor,
+                                                    @RequestParam(required = false) Integer limit) {
+        CursorPage<VibeResponse> page;
+        try {
+            page = communityService.getFeed(persona, tag, visibility, sort, cursor, limit);
+        } catch (IllegalArgumentException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, ex.getMessage(), ex);
+        }
+        return withNextCursor(page);
+    }
+
+    @GetMapping(value = "/vibes/live", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter live(@RequestParam(required = false) String persona,
+                           @RequestParam(required = false) String tag,
+                           @RequestParam(required = false) VibeVisibility visibility,
+                           HttpServletResponse response) {
+        SseEmitter emitter;
+        try {
+            emitter = liveFeedBroadcaster.subscribe(persona, tag, visibility);
+        } catch (IllegalStateException ex) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage(), ex);
+        }
+        // nginx would otherwise hold events in its proxy buffer
+        response.setHeader("X-Accel-Buffering", "no");
+        return emitter;
+    }
+
+    /**
+     * Short-lived token for {@code GET /vibes/live?access_token=...}, for EventSource clients that
+     * cannot set an Authorization header.
+     */
+    @PostMapping("/vibes/live/token")
+    public ResponseEntity<StreamTokenResponse> liveToken(@AuthenticationPrincipal UserPrincipal principal) {
+        String token = jwtService.generateStreamToken(principal, principal.getUser().getId());
+        return ResponseEntity.ok(new StreamTokenResponse(token, jwtService.getStreamTokenExpiration()));
     }
 
     @PostMapping("/vibes")
@@ -43,7 +95,24 @@ public class CommunityController {
     }
 
     @GetMapping("/vibes/{id}/remixes")
-    public ResponseEntity<List<RemixResponse>> remixes(@PathVariable Long id) {
-        return ResponseEntity.ok(communityService.getRemixes(id));
+    public ResponseEntity<List<RemixResponse>> remixes(@PathVariable Long id,
+                                                        @RequestParam(required = false) String cursor,
+                                                        @RequestParam(required = false) Integer limit) {
+        CursorPage<RemixResponse> page;
+        try {
+            page = communityService.getRemixes(id, cursor, limit);
+        } catch (IllegalArgumentException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, ex.getMessage(), ex);
+        }
+        return withNextCursor(page);
+    }
+
+    private static <T> ResponseEntity<List<T>> withNextCursor(CursorPage<T> page) {
+        // The body stays a plain list for existing clients; the cursor travels in a header
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getItems());
     }
 }
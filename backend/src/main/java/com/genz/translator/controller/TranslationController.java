@@ -1,15 +1,22 @@
 package com.genz.translator.controller;
 
+import com.genz.translator.dto.BatchTranslationRequest;
+import com.genz.translator.dto.BatchTranslationResponse;
 import com.genz.translator.dto.TranslationRequest;
 import com.genz.translator.dto.TranslationResponse;
 import com.genz.translator.model.Term;
 import com.genz.translator.model.TranslationHistory;
 import com.genz.translator.service.TranslationService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 @RestController
@@ -26,6 +33,25 @@ public class TranslationController {
         return ResponseEntity.ok(response);
     }
 
+    @PostMapping("/translate/batch")
+    public ResponseEntity<BatchTranslationResponse> translateBatch(@Valid @RequestBody BatchTranslationRequest request) {
+        BatchTranslationResponse response = translationService.translateBatch(request.getTexts());
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping(value = "/translate/stream",
+                 consumes = {MediaType.TEXT_PLAIN_VALUE, MediaType.APPLICATION_NDJSON_VALUE},
+                 produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void translateStream(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        boolean jsonLines = MediaType.APPLICATION_NDJSON.isCompatibleWith(MediaType.parseMediaType(request.getContentType()));
+        if (request.getCharacterEncoding() == null) {
+            request.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        }
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        translationService.translateStream(request.getReader(), response.getWriter(), jsonLines);
+    }
+
     @GetMapping("/translate")
     public ResponseEntity<TranslationResponse> translateGet(@RequestParam String text) {
         TranslationResponse response = translationService.translateText(text);
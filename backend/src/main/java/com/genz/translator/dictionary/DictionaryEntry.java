@@ -0,0 +1,28 @@
+package com.genz.translator.dictionary;
+
+import com.genz.translator.model.Term;
+
+/**
+ * Immutable copy of the parts of a {@link Term} the translation engine needs, so compiled
+ * dictionaries never hold on to managed JPA entities.
+ */
+public final class DictionaryEntry {
+
+    private final Long termId;
+    private final String genzText;
+    private final String translation;
+
+    public DictionaryEntry(Long termId, String genzText, String translation) {
+        this.termId = termId;
+        this.genzText = genzText;
+        this.translation = translation;
+    }
+
+    public static DictionaryEntry of(Term term) {
+        return new DictionaryEntry(term.getId(), term.getGenzText(), term.getTranslation());
+    }
+
+    public Long getTermId() { return termId; }
+    public String getGenzText() { return genzText; }
+    public String getTranslation() { return translation; }
+}
@@ -0,0 +1,28 @@
+package com.genz.translator.dictionary;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Result of running a {@link TermAutomaton} over one input: the rewritten text and the distinct
+ * entries that matched, in order of first appearance.
+ */
+public final class DictionaryMatch {
+
+    private final String translatedText;
+    private final List<DictionaryEntry> matchedEntries;
+
+    public DictionaryMatch(String translatedText, List<DictionaryEntry> matchedEntries) {
+        this.translatedText = translatedText;
+        this.matchedEntries = List.copyOf(matchedEntries);
+    }
+
+    public String getTranslatedText() { return translatedText; }
+    public List<DictionaryEntry> getMatchedEntries() { return matchedEntries; }
+
+    public List<String> getTermsFound() {
+        return matchedEntries.stream()
+                .map(DictionaryEntry::getGenzText)
+                .collect(Collectors.toList());
+    }
+}
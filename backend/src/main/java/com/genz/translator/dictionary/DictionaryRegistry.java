@@ -0,0 +1,139 @@
+package com.genz.translator.dictionary;
+
+import com.genz.translator.repository.TermRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * Holds the current {@link DictionarySnapshot}.
+ * <p>
+ * Readers only ever do a volatile read of the published snapshot and never block. Rebuilds are
+ * serialized, run off to the side and are swapped in atomically once compiled. A rebuild happens
+ * at startup, after a term change commits, and on a fixed schedule to pick up edits made
+ * directly in the database. A rebuild whose content checksum matches the live snapshot is
+ * discarded, so the version only moves when the dictionary actually changed.
+ */
+@Component
+public class DictionaryRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(DictionaryRegistry.class);
+
+    private final TermRepository termRepository;
+    private final AtomicReference<DictionarySnapshot> current = new AtomicReference<>();
+    private final ReentrantLock reloadLock = new ReentrantLock();
+    private final Counter publishedReloads;
+    private final Counter unchangedReloads;
+    private final Counter failedReloads;
+
+    public DictionaryRegistry(TermRepository termRepository, MeterRegistry meterRegistry) {
+        this.termRepository = termRepository;
+        this.publishedReloads = reloadCounter(meterRegistry, "published");
+        this.unchangedReloads = reloadCounter(meterRegistry, "unchanged");
+        this.failedReloads = reloadCounter(meterRegistry, "failed");
+        Gauge.builder("translator.dictionary.version", current, ref -> ref.get() == null ? 0 : ref.get().getVersion())
+                .description("Version of the live dictionary snapshot")
+                .register(meterRegistry);
+        Gauge.builder("translator.dictionary.terms", current, ref -> ref.get() == null ? 0 : ref.get().getTermCount())
+                .description("Terms in the live dictionary snapshot")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void initialize() {
+        reload();
+    }
+
+    public DictionarySnapshot current() {
+        return current.get();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTermsChanged(TermsChangedEvent event) {
+        reload();
+    }
+
+    @Scheduled(initialDelayString = "${translator.dictionary.refresh-interval-ms:60000}",
+               fixedDelayString = "${translator.dictionary.refresh-interval-ms:60000}")
+    public void refresh() {
+        try {
+            reload();
+        } catch (RuntimeException ex) {
+            failedReloads.increment();
+            log.warn("Scheduled dictionary refresh failed, keeping version {}", current().getVersion(), ex);
+        }
+    }
+
+    public DictionarySnapshot reload() {
+        // A lock rather than synchronized, so a virtual thread waiting on the query does not pin its carrier
+        reloadLock.lock();
+        try {
+            List<DictionaryEntry> entries = termRepository.findAll(Sort.by("id")).stream()
+                    .map(DictionaryEntry::of)
+                    .collect(Collectors.toList());
+            String checksum = checksum(entries);
+
+            DictionarySnapshot live = current.get();
+            if (live != null && live.getChecksum().equals(checksum)) {
+                unchangedReloads.increment();
+                return live;
+            }
+
+            long version = live == null ? 1 : live.getVersion() + 1;
+            DictionarySnapshot snapshot = new DictionarySnapshot(version, checksum, LocalDateTime.now(),
+                    TermAutomaton.compile(entries));
+            current.set(snapshot);
+            publishedReloads.increment();
+            log.info("Dictionary snapshot v{} published with {} terms ({})", version, snapshot.getTermCount(), checksum);
+            return snapshot;
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    private static Counter reloadCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("translator.dictionary.reloads")
+                .description("Dictionary rebuilds by outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Content hash over everything the engine uses, so nodes can be compared independently of
+     * their local version counters. Popularity is deliberately excluded.
+     */
+    private static String checksum(List<DictionaryEntry> entries) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
+        for (DictionaryEntry entry : entries) {
+            digest.update(String.valueOf(entry.getTermId()).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(String.valueOf(entry.getGenzText()).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(String.valueOf(entry.getTranslation()).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) '\n');
+        }
+        return HexFormat.of().formatHex(digest.digest(), 0, 8);
+    }
+}
@@ -0,0 +1,35 @@
+package com.genz.translator.dictionary;
+
+import java.time.LocalDateTime;
+
+/**
+ * One immutable, fully compiled generation of the dictionary. Snapshots are only ever published
+ * whole, so a reader holding one sees a consistent view for as long as it keeps the reference.
+ */
+public final class DictionarySnapshot {
+
+    private final long version;
+    private final String checksum;
+    private final LocalDateTime builtAt;
+    private final TermAutomaton automaton;
+
+    public DictionarySnapshot(long version, String checksum, LocalDateTime builtAt, TermAutomaton automaton) {
+        this.version = version;
+        this.checksum = checksum;
+        this.builtAt = builtAt;
+        this.automaton = automaton;
+    }
+
+    public long getVersion() { return version; }
+    public String getChecksum() { return checksum; }
+    public LocalDateTime getBuiltAt() { return builtAt; }
+    public TermAutomaton getAutomaton() { return automaton; }
+
+    public int getTermCount() {
+        return automaton.size();
+    }
+
+    public DictionaryMatch translate(String text) {
+        return automaton.translate(text);
+    }
+}
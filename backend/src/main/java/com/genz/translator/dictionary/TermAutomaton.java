@@ -0,0 +1,278 @@
+package com.genz.translator.dictionary;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Aho-Corasick automaton over the Gen Z dictionary.
+ * <p>
+ * The automaton is compiled once from the full term list and is immutable afterwards, so a single
+ * instance can be shared by any number of request threads. Matching is case-insensitive, respects
+ * word boundaries on the sides of a term that start or end with a word character, and resolves
+ * overlaps leftmost-longest, so "no cap" wins over "cap" and "fr fr" wins over "fr".
+ */
+public final class TermAutomaton {
+
+    private static final int ROOT = 0;
+    private static final int NONE = -1;
+    private static final char[] NO_KEYS = new char[0];
+    private static final int[] NO_TARGETS = new int[0];
+
+    private final List<DictionaryEntry> entries;
+    private final boolean[] boundedStart;
+    private final boolean[] boundedEnd;
+
+    // Per-state tables, indexed by state number.
+    private final char[][] keys;
+    private final int[][] targets;
+    private final int[] fail;
+    private final int[] output;
+    private final int[] outputLink;
+    private final int[] depth;
+    // Longest term plus one, so a candidate never shares a slot with an unsettled one
+    private final int candidateSlots;
+
+    private TermAutomaton(List<DictionaryEntry> entries, List<TreeMap<Character, Integer>> trie,
+                          int[] output, int[] depth) {
+        int states = trie.size();
+        this.entries = entries;
+        this.boundedStart = new boolean[entries.size()];
+        this.boundedEnd = new boolean[entries.size()];
+        for (int i = 0; i < entries.size(); i++) {
+            String text = entries.get(i).getGenzText();
+            boundedStart[i] = isWordChar(text.charAt(0));
+            boundedEnd[i] = isWordChar(text.charAt(text.length() - 1));
+        }
+
+        this.keys = new char[states][];
+        this.targets = new int[states][];
+        for (int state = 0; state < states; state++) {
+            Map<Character, Integer> edges = trie.get(state);
+            if (edges.isEmpty()) {
+                keys[state] = NO_KEYS;
+                targets[state] = NO_TARGETS;
+                continue;
+            }
+            char[] stateKeys = new char[edges.size()];
+            int[] stateTargets = new int[edges.size()];
+            int i = 0;
+            for (Map.Entry<Character, Integer> edge : edges.entrySet()) {
+                stateKeys[i] = edge.getKey();
+                stateTargets[i] = edge.getValue();
+                i++;
+            }
+            keys[state] = stateKeys;
+            targets[state] = stateTargets;
+        }
+
+        this.output = output;
+        this.depth = depth;
+        this.candidateSlots = Arrays.stream(depth).max().orElse(0) + 1;
+        this.fail = new int[states];
+        this.outputLink = new int[states];
+        linkFailures();
+    }
+
+    /**
+     * Compiles an automaton from the given entries. When two entries fold to the same text the
+     * first one wins, matching the order in which the old per-term regex loop applied them.
+     */
+    public static TermAutomaton compile(Collection<DictionaryEntry> source) {
+        List<DictionaryEntry> entries = new ArrayList<>();
+        List<TreeMap<Character, Integer>> trie = new ArrayList<>();
+        List<Integer> output = new ArrayList<>();
+        List<Integer> depth = new ArrayList<>();
+        trie.add(new TreeMap<>());
+        output.add(NONE);
+        depth.add(0);
+
+        for (DictionaryEntry entry : source) {
+            String text = entry.getGenzText();
+            if (text == null || text.isEmpty() || entry.getTranslation() == null) {
+                continue;
+            }
+            int state = ROOT;
+            for (int i = 0; i < text.length(); i++) {
+                char c = fold(text.charAt(i));
+                Integer next = trie.get(state).get(c);
+                if (next == null) {
+                    next = trie.size();
+                    trie.add(new TreeMap<>());
+                    output.add(NONE);
+                    depth.add(depth.get(state) + 1);
+                    trie.get(state).put(c, next);
+                }
+                state = next;
+            }
+            if (output.get(state) == NONE) {
+                output.set(state, entries.size());
+                entries.add(entry);
+            }
+        }
+
+        return new TermAutomaton(List.copyOf(entries), trie, toArray(output), toArray(depth));
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public List<DictionaryEntry> getEntries() {
+        return entries;
+    }
+
+    /**
+     * Rewrites every dictionary term in {@code text} with its translation in a single pass.
+     * <p>
+     * The longest match at each start is kept only until the automaton proves no later match can
+     * begin there: after reading {@code i + 1} characters, every future match starts at or after
+     * {@code i + 1 - depth[state]}. Positions before that are rewritten immediately, so the
+     * candidates in flight never span more than the longest term and fit in a small ring.
+     */
+    public DictionaryMatch translate(String text) {
+        int length = text.length();
+        int[] candidateStart = null;
+        int[] candidateLength = null;
+        int[] candidateEntry = null;
+        StringBuilder translated = null;
+        List<DictionaryEntry> matched = null;
+        int copied = 0;
+        int position = 0;
+
+        int state = ROOT;
+        for (int i = 0; i < length; i++) {
+            state = step(state, fold(text.charAt(i)));
+            int hit = output[state] != NONE ? state : outputLink[state];
+            while (hit != NONE) {
+                int entry = output[hit];
+                int start = i + 1 - depth[hit];
+                if (start >= position && isDelimited(text, start, i + 1, entry)) {
+                    if (candidateStart == null) {
+                        candidateStart = new int[candidateSlots];
+                        candidateLength = new int[candidateSlots];
+                        candidateEntry = new int[candidateSlots];
+                        Arrays.fill(candidateStart, NONE);
+                    }
+                    int slot = start % candidateSlots;
+                    if (candidateStart[slot] != start || depth[hit] > candidateLength[slot]) {
+                        candidateStart[slot] = start;
+                        candidateLength[slot] = depth[hit];
+                        candidateEntry[slot] = entry;
+                    }
+                }
+                hit = outputLink[hit];
+            }
+            if (candidateStart == null) {
+                continue;
+            }
+
+            // Leftmost-longest over every start that can no longer gain a match
+            int settled = i == length - 1 ? length : i + 1 - depth[state];
+            while (position < settled) {
+                int slot = position % candidateSlots;
+                if (candidateStart[slot] != position) {
+                    position++;
+                    continue;
+                }
+                int entry = candidateEntry[slot];
+                if (translated == null) {
+                    translated = new StringBuilder(length + 16);
+                    matched = new ArrayList<>();
+                }
+                translated.append(text, copied, position).append(entries.get(entry).getTranslation());
+                if (!containsEntry(matched, entries.get(entry))) {
+                    matched.add(entries.get(entry));
+                }
+                position += candidateLength[slot];
+                copied = position;
+            }
+        }
+
+        if (translated == null) {
+            return new DictionaryMatch(text, List.of());
+        }
+        translated.append(text, copied, length);
+        return new DictionaryMatch(translated.toString(), matched);
+    }
+
+    private int step(int state, char c) {
+        while (true) {
+            int next = transition(state, c);
+            if (next != NONE) {
+                return next;
+            }
+            if (state == ROOT) {
+                return ROOT;
+            }
+            state = fail[state];
+        }
+    }
+
+    private int transition(int state, char c) {
+        int index = Arrays.binarySearch(keys[state], c);
+        return index >= 0 ? targets[state][index] : NONE;
+    }
+
+    private boolean isDelimited(String text, int start, int end, int entry) {
+        if (boundedStart[entry] && start > 0 && isWordChar(text.charAt(start - 1))) {
+            return false;
+        }
+        return !(boundedEnd[entry] && end < text.length() && isWordChar(text.charAt(end)));
+    }
+
+    private void linkFailures() {
+        Arrays.fill(outputLink, NONE);
+        Deque<Integer> queue = new ArrayDeque<>();
+        for (int child : targets[ROOT]) {
+            fail[child] = ROOT;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            for (int i = 0; i < keys[state].length; i++) {
+                char c = keys[state][i];
+                int child = targets[state][i];
+                int fallback = fail[state];
+                while (fallback != ROOT && transition(fallback, c) == NONE) {
+                    fallback = fail[fallback];
+                }
+                int target = transition(fallback, c);
+                fail[child] = target != NONE ? target : ROOT;
+                outputLink[child] = output[fail[child]] != NONE ? fail[child] : outputLink[fail[child]];
+                queue.add(child);
+            }
+        }
+    }
+
+    // Matches per text are few, so a scan beats allocating a set sized to the dictionary
+    private static boolean containsEntry(List<DictionaryEntry> matched, DictionaryEntry entry) {
+        for (DictionaryEntry candidate : matched) {
+            if (candidate == entry) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static char fold(char c) {
+        return Character.toLowerCase(c);
+    }
+
+    private static boolean isWordChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '_';
+    }
+
+    private static int[] toArray(List<Integer> values) {
+        int[] result = new int[values.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = values.get(i);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,16 @@
+package com.genz.translator.dictionary;
+
+/**
+ * Published whenever the terms table is modified through the API, so the dictionary can be
+ * rebuilt once the change has committed.
+ */
+public class TermsChangedEvent {
+
+    private final Long termId;
+
+    public TermsChangedEvent(Long termId) {
+        this.termId = termId;
+    }
+
+    public Long getTermId() { return termId; }
+}
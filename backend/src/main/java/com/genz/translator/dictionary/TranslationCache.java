@@ -0,0 +1,80 @@
+package com.genz.translator.dictionary;
+
+import com.genz.translator.concurrent.SingleFlight;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Bounded cache of rendered translations in front of the automaton.
+ * <p>
+ * Entries are keyed by the dictionary snapshot version and the input text, so publishing a new
+ * snapshot makes every older entry unreachable without a flush; they then age out through normal
+ * eviction. The text is used as-is because every character of it is echoed back in the response.
+ * Capacity is bounded by an estimate of retained bytes rather than entry count, and eviction is
+ * Caffeine's W-TinyLFU, which keeps the frequently repeated short phrases that dominate traffic.
+ * Misses go through a {@link SingleFlight}, so a burst of identical requests, typically right
+ * after a reload, runs the automaton once.
+ */
+@Component
+public class TranslationCache {
+
+    private record Key(long version, String text) {}
+
+    private final Cache<Key, DictionaryMatch> cache;
+    private final SingleFlight<Key, DictionaryMatch> singleFlight = new SingleFlight<>();
+    private final int maxTextLength;
+
+    public TranslationCache(MeterRegistry meterRegistry,
+                            @Value("${translator.cache.max-weight-bytes:33554432}") long maxWeightBytes,
+                            @Value("${translator.cache.max-text-length:2048}") int maxTextLength,
+                            @Value("${translator.cache.expire-after-write-ms:600000}") long expireAfterWriteMs) {
+        this.maxTextLength = maxTextLength;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxWeightBytes)
+                .weigher(TranslationCache::weigh)
+                .expireAfterWrite(Duration.ofMillis(expireAfterWriteMs))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "translations");
+        FunctionCounter.builder("translator.translation.coalesced", singleFlight, SingleFlight::coalescedCount)
+                .description("Translations served by another caller's in-flight computation")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the cached result for {@code text} under {@code snapshot}, computing it with
+     * {@code loader} on a miss. Concurrent misses for the same key share one computation. Texts
+     * longer than {@code max-text-length} are coalesced the same way but never stored.
+     */
+    public DictionaryMatch get(DictionarySnapshot snapshot, String text, Function<String, DictionaryMatch> loader) {
+        Key key = new Key(snapshot.getVersion(), text);
+        if (text.length() > maxTextLength) {
+            return singleFlight.execute(key, () -> loader.apply(text));
+        }
+        DictionaryMatch cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        return singleFlight.execute(key, () -> {
+            DictionaryMatch computed = loader.apply(text);
+            cache.put(key, computed);
+            return computed;
+        });
+    }
+
+    // Rough retained size: both strings as UTF-16 plus fixed object overhead
+    private static int weigh(Key key, DictionaryMatch match) {
+        long bytes = 2L * key.text().length() + 2L * match.getTranslatedText().length()
+                + 32L * match.getMatchedEntries().size() + 96;
+        return (int) Math.min(Integer.MAX_VALUE, bytes);
+    }
+}
@@ -0,0 +1,22 @@
+package com.genz.translator.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public class BatchTranslationRequest {
+    @NotEmpty(message = "Batch must contain at least one text")
+    @Size(max = 5000, message = "Batch cannot contain more than 5000 texts")
+    private List<@NotBlank(message = "Text to translate cannot be empty") String> texts;
+
+    public BatchTranslationRequest() {}
+
+    public BatchTranslationRequest(List<String> texts) {
+        this.texts = texts;
+    }
+
+    public List<String> getTexts() { return texts; }
+    public void setTexts(List<String> texts) { this.texts = texts; }
+}
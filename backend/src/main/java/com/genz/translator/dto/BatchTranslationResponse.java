@@ -0,0 +1,32 @@
+package com.genz.translator.dto;
+
+import java.util.List;
+
+public class BatchTranslationResponse {
+    private List<TranslationResponse> results;
+    private int count;
+    private long dictionaryVersion;
+    private boolean success;
+
+    public BatchTranslationResponse() {}
+
+    public BatchTranslationResponse(List<TranslationResponse> results, long dictionaryVersion) {
+        this.results = results;
+        this.count = results.size();
+        this.dictionaryVersion = dictionaryVersion;
+        this.success = true;
+    }
+
+    // Getters and Setters
+    public List<TranslationResponse> getResults() { return results; }
+    public void setResults(List<TranslationResponse> results) { this.results = results; }
+
+    public int getCount() { return count; }
+    public void setCount(int count) { this.count = count; }
+
+    public long getDictionaryVersion() { return dictionaryVersion; }
+    public void setDictionaryVersion(long dictionaryVersion) { this.dictionaryVersion = dictionaryVersion; }
+
+    public boolean isSuccess() { return success; }
+    public void setSuccess(boolean success) { this.success = success; }
+}
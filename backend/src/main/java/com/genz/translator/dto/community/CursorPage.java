@@ -0,0 +1,20 @@
+package com.genz.translator.dto.community;
+
+import java.util.List;
+
+public class CursorPage<T> {
+    private List<T> items;
+    private String nextCursor;
+
+    public CursorPage(List<T> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<T> getItems() { return items; }
+
+    /**
+     * @return the cursor for the following page, or null when this is the last one
+     */
+    public String getNextCursor() { return nextCursor; }
+}
@@ -0,0 +1,8 @@
+package com.genz.translator.dto.community;
+
+public enum FeedSort {
+    /** Newest first. */
+    RECENT,
+    /** Highest time-decayed engagement first. */
+    HOT
+}
@@ -0,0 +1,69 @@
+package com.genz.translator.dto.community;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position in a list ordered by {@code (created_at, id)} or {@code (hot_score, id)}. Clients only
+ * ever see the encoded form, which is opaque and may change between releases.
+ */
+public final class KeysetCursor {
+
+    private static final String CREATED_AT = "t";
+    private static final String SCORE = "s";
+
+    private final LocalDateTime createdAt;
+    private final Double score;
+    private final Long id;
+
+    public KeysetCursor(LocalDateTime createdAt, Long id) {
+        this(createdAt, null, id);
+    }
+
+    private KeysetCursor(LocalDateTime createdAt, Double score, Long id) {
+        this.createdAt = createdAt;
+        this.score = score;
+        this.id = id;
+    }
+
+    public static KeysetCursor ofScore(double score, Long id) {
+        return new KeysetCursor(null, score, id);
+    }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public Double getScore() { return score; }
+    public Long getId() { return id; }
+
+    public boolean isScore() {
+        return score != null;
+    }
+
+    public String encode() {
+        String raw = isScore()
+                ? SCORE + "|" + score + "|" + id
+                : CREATED_AT + "|" + createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException if {@code token} was not produced by {@link #encode()}
+     */
+    public static KeysetCursor decode(String token) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split("\\|");
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("Malformed cursor");
+            }
+            Long id = Long.valueOf(parts[2]);
+            return switch (parts[0]) {
+                case CREATED_AT -> new KeysetCursor(LocalDateTime.parse(parts[1]), id);
+                case SCORE -> ofScore(Double.parseDouble(parts[1]), id);
+                default -> throw new IllegalArgumentException("Malformed cursor");
+            };
+        } catch (DateTimeParseException | IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Malformed cursor", ex);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.genz.translator.dto.community;
+
+public class StreamTokenResponse {
+
+    private String token;
+    private long expiresInMs;
+
+    public StreamTokenResponse(String token, long expiresInMs) {
+        this.token = token;
+        this.expiresInMs = expiresInMs;
+    }
+
+    public String getToken() {
+        return token;
+    }
+
+    public void setToken(String token) {
+        this.token = token;
+    }
+
+    public long getExpiresInMs() {
+        return expiresInMs;
+    }
+
+    public void setExpiresInMs(long expiresInMs) {
+        this.expiresInMs = expiresInMs;
+    }
+}
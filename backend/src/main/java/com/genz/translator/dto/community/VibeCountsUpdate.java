@@ -0,0 +1,23 @@
+package com.genz.translator.dto.community;
+
+import java.util.Map;
+
+/**
+ * Current counts of a vibe, pushed to live feed subscribers whenever they change. Counts are
+ * absolute rather than deltas, so a client that missed an update is corrected by the next one.
+ */
+public class VibeCountsUpdate {
+    private Long vibeId;
+    private Map<String, Long> pulses;
+    private Integer remixCount;
+
+    public VibeCountsUpdate(Long vibeId, Map<String, Long> pulses, Integer remixCount) {
+        this.vibeId = vibeId;
+        this.pulses = pulses;
+        this.remixCount = remixCount;
+    }
+
+    public Long getVibeId() { return vibeId; }
+    public Map<String, Long> getPulses() { return pulses; }
+    public Integer getRemixCount() { return remixCount; }
+}
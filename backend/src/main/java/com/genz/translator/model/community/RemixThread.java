@@ -5,7 +5,9 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "remix_threads")
+@Table(name = "remix_threads", indexes = {
+        @Index(name = "idx_remix_threads_vibe_created_at", columnList = "vibe_id, created_at, id")
+})
 public class RemixThread {
 
     @Id
@@ -2,14 +2,27 @@ package com.genz.translator.model.community;
 
 import com.genz.translator.model.UserAccount;
 import jakarta.persistence.*;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 @Entity
-@Table(name = "vibe_posts")
+// The case-insensitive persona index is an expression index and only exists in database/init.sql
+@Table(name = "vibe_posts", indexes = {
+        @Index(name = "idx_vibe_posts_created_at", columnList = "created_at DESC, id DESC"),
+        @Index(name = "idx_vibe_posts_hot_score", columnList = "hot_score DESC, id DESC"),
+        @Index(name = "idx_vibe_posts_visibility_created_at", columnList = "visibility, created_at DESC, id DESC")
+})
 public class VibePost {
 
+    // Every HOT_DECAY_SECONDS of age costs as much rank as a tenfold difference in engagement
+    private static final double HOT_DECAY_SECONDS = 45000;
+    private static final LocalDateTime HOT_EPOCH = LocalDateTime.of(2024, 1, 1, 0, 0);
+    private static final int REMIX_WEIGHT = 2;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -34,7 +47,8 @@ public class VibePost {
     private String accentColor;
 
     @ElementCollection
-    @CollectionTable(name = "vibe_tags", joinColumns = @JoinColumn(name = "vibe_id"))
+    @CollectionTable(name = "vibe_tags", joinColumns = @JoinColumn(name = "vibe_id"),
+                     indexes = @Index(name = "idx_vibe_tags_tag", columnList = "tag, vibe_id"))
     @Column(name = "tag")
     private List<String> tags = new ArrayList<>();
 
@@ -42,9 +56,29 @@ public class VibePost {
     @Column(nullable = false)
     private VibeVisibility visibility = VibeVisibility.PUBLIC;
 
-    @Column(name = "remix_count")
+    // Counters are only ever written by relative SQL updates, never from this entity
+    @Column(name = "remix_count", updatable = false)
     private Integer remixCount = 0;
 
+    @Column(name = "pulse_mind_bend", columnDefinition = "INTEGER DEFAULT 0 NOT NULL", insertable = false, updatable = false)
+    private int pulseMindBend;
+
+    @Column(name = "pulse_chill", columnDefinition = "INTEGER DEFAULT 0 NOT NULL", insertable = false, updatable = false)
+    private int pulseChill;
+
+    @Column(name = "pulse_hype", columnDefinition = "INTEGER DEFAULT 0 NOT NULL", insertable = false, updatable = false)
+    private int pulseHype;
+
+    @Column(name = "pulse_sage", columnDefinition = "INTEGER DEFAULT 0 NOT NULL", insertable = false, updatable = false)
+    private int pulseSage;
+
+    @Column(name = "pulse_cosmic", columnDefinition = "INTEGER DEFAULT 0 NOT NULL", insertable = false, updatable = false)
+    private int pulseCosmic;
+
+    // Set on insert, then only rewritten by SQL whenever a counter moves
+    @Column(name = "hot_score", columnDefinition = "DOUBLE PRECISION DEFAULT 0 NOT NULL", updatable = false)
+    private double hotScore;
+
     @Column(name = "created_at", columnDefinition = "TIMESTAMP DEFAULT CURRENT_TIMESTAMP")
     private LocalDateTime createdAt = LocalDateTime.now();
 
@@ -56,6 +90,11 @@ public class VibePost {
         this.updatedAt = LocalDateTime.now();
     }
 
+    @PrePersist
+    public void initHotScore() {
+        this.hotScore = computeHotScore();
+    }
+
     public Long getId() {
         return id;
     }
@@ -128,8 +167,65 @@ public class VibePost {
         return remixCount;
     }
 
-    public void setRemixCount(Integer remixCount) {
-        this.remixCount = remixCount;
+    public int getPulseCount(PulseType type) {
+        return switch (type) {
+            case MIND_BEND -> pulseMindBend;
+            case CHILL -> pulseChill;
+            case HYPE -> pulseHype;
+            case SAGE -> pulseSage;
+            case COSMIC -> pulseCosmic;
+        };
+    }
+
+    /**
+     * @return counts keyed by pulse type name, leaving out types nobody has used
+     */
+    public Map<String, Long> getPulseCounts() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (PulseType type : PulseType.values()) {
+            int count = getPulseCount(type);
+            if (count > 0) {
+                counts.put(type.name(), (long) count);
+            }
+        }
+        return counts;
+    }
+
+    public double getHotScore() {
+        return hotScore;
+    }
+
+    /**
+     * Score for the current counters; see {@link #hotScore(long, long, LocalDateTime)}.
+     */
+    public double computeHotScore() {
+        long pulses = 0;
+        for (PulseType type : PulseType.values()) {
+            pulses += getPulseCount(type);
+        }
+        return hotScore(pulses, remixCount == null ? 0 : remixCount, createdAt);
+    }
+
+    /**
+     * Logarithmic engagement plus a bonus that grows linearly with creation time. Newer posts need
+     * exponentially less engagement to outrank older ones, yet a post's score never changes unless
+     * its own counters do, so it can be kept in an index and updated incrementally.
+     */
+    public static double hotScore(long pulses, long remixes, LocalDateTime createdAt) {
+        long engagement = pulses + REMIX_WEIGHT * remixes;
+        double order = Math.log10(Math.max(engagement, 1));
+        long seconds = Duration.between(HOT_EPOCH, createdAt).getSeconds();
+        return order + seconds / HOT_DECAY_SECONDS;
+    }
+
+    public static String pulseCountColumn(PulseType type) {
+        return switch (type) {
+            case MIND_BEND -> "pulse_mind_bend";
+            case CHILL -> "pulse_chill";
+            case HYPE -> "pulse_hype";
+            case SAGE -> "pulse_sage";
+            case COSMIC -> "pulse_cosmic";
+        };
     }
 
     public LocalDateTime getCreatedAt() {
@@ -0,0 +1,71 @@
+package com.genz.translator.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Global cap on API requests in flight. Past {@code translator.rate-limit.max-concurrent-requests}
+ * new requests are refused at once with 503 rather than queued, so that when the node is overloaded
+ * the requests it does accept still finish quickly instead of every request slowing down together.
+ * Streams count only while their initial request is being handled. Actuator endpoints and
+ * {@code /api/health}, which the container healthcheck polls, are exempt so that an overloaded
+ * node is not also reported unhealthy and restarted.
+ */
+@Component
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final String HEALTH_PATH = "/api/health";
+
+    private final boolean enabled;
+    private final int maxConcurrent;
+    private final Semaphore permits;
+    private final Counter shed;
+
+    public ConcurrencyLimitFilter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.enabled = properties.isEnabled();
+        this.maxConcurrent = properties.getMaxConcurrentRequests();
+        this.permits = new Semaphore(Math.max(1, maxConcurrent));
+
+        Gauge.builder("translator.admission.in-flight", permits, semaphore -> maxConcurrent - semaphore.availablePermits())
+                .description("API requests currently being handled")
+                .register(meterRegistry);
+        this.shed = Counter.builder("translator.admission.rejections")
+                .description("Requests refused with 503 because the concurrency limit was reached")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return !enabled || maxConcurrent <= 0 || !path.startsWith("/api/") || path.equals(HEALTH_PATH);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        if (!permits.tryAcquire()) {
+            shed.increment();
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            return;
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            permits.release();
+        }
+    }
+}
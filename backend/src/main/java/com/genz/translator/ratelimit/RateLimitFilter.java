@@ -0,0 +1,128 @@
+package com.genz.translator.ratelimit;
+
+import com.genz.translator.concurrent.TokenBucket;
+import com.genz.translator.security.UserPrincipal;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-client token bucket limits for the routes listed under {@code translator.rate-limit.policies}.
+ * Runs after the JWT filter so signed-in callers are limited per user id, wherever they connect
+ * from; anonymous callers are limited per remote address. Behind the nginx frontend that is the
+ * client address Tomcat takes from {@code X-Forwarded-For}, which it only believes from the proxies
+ * listed in {@code server.tomcat.remoteip.internal-proxies}. A request over its limit is answered
+ * 429 with {@code Retry-After} before any controller work happens.
+ * <p>
+ * Buckets live in a table bounded by {@code max-clients} and dropped once idle for
+ * {@code idle-timeout-ms}. A client whose bucket is evicted under pressure starts again with a
+ * full bucket, which trades a little precision during a flood of distinct clients for memory that
+ * cannot grow without bound.
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private record RoutePolicy(String name, List<String> paths, int capacity, double refillPerSecond, Counter rejections) {}
+
+    private record BucketKey(String policy, String client) {}
+
+    private final boolean enabled;
+    private final List<RoutePolicy> policies;
+    private final Cache<BucketKey, TokenBucket> buckets;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    public RateLimitFilter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.enabled = properties.isEnabled();
+        this.policies = properties.getPolicies().stream()
+                .map(policy -> {
+                    if (policy.getCapacity() < 1 || policy.getRefillPerSecond() <= 0) {
+                        throw new IllegalStateException("Rate limit policy " + policy.getName()
+                                + " needs a positive capacity and refill-per-second");
+                    }
+                    return new RoutePolicy(policy.getName(), List.copyOf(policy.getPaths()),
+                            policy.getCapacity(), policy.getRefillPerSecond(),
+                            Counter.builder("translator.ratelimit.rejections")
+                                    .description("Requests refused with 429 because the client's bucket was empty")
+                                    .tag("policy", policy.getName())
+                                    .register(meterRegistry));
+                })
+                .toList();
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxClients())
+                .expireAfterAccess(Duration.ofMillis(properties.getIdleTimeoutMs()))
+                .build();
+
+        Gauge.builder("translator.ratelimit.clients", buckets, Cache::estimatedSize)
+                .description("Client buckets currently tracked")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        // CORS preflights carry no credentials and would otherwise spend the client's tokens twice
+        return !enabled || policies.isEmpty() || HttpMethod.OPTIONS.matches(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        RoutePolicy policy = policyFor(request);
+        if (policy != null) {
+            long now = System.nanoTime();
+            TokenBucket bucket = buckets.get(new BucketKey(policy.name(), clientKey(request)),
+                    key -> new TokenBucket(policy.capacity(), policy.refillPerSecond(), now));
+            long waitNanos = bucket.tryAcquire(now);
+            if (waitNanos > 0) {
+                policy.rejections().increment();
+                response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+                response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds(waitNanos)));
+                return;
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private RoutePolicy policyFor(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (RoutePolicy policy : policies) {
+            for (String pattern : policy.paths()) {
+                if (pathMatcher.match(pattern, path)) {
+                    return policy;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static String clientKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal principal) {
+            return "user:" + principal.getUser().getId();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    static long retryAfterSeconds(long waitNanos) {
+        return Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+    }
+}
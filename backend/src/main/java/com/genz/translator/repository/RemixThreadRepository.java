@@ -1,13 +1,32 @@
 package com.genz.translator.repository;
 
+import com.genz.translator.dto.community.RemixResponse;
 import com.genz.translator.model.community.RemixThread;
-import com.genz.translator.model.community.VibePost;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
+/**
+ * Remix threads are read oldest first in {@code (created_at, id)} order, which
+ * {@code idx_remix_threads_vibe_created_at} serves directly. Author fields are projected in the
+ * same query, so a page never loads the author entities.
+ */
 @Repository
 public interface RemixThreadRepository extends JpaRepository<RemixThread, Long> {
-    List<RemixThread> findByVibePostOrderByCreatedAtAsc(VibePost vibePost);
+
+    @Query("SELECT new com.genz.translator.dto.community.RemixResponse(r.id, a.handle, a.personaTag, r.remixText, r.createdAt) "
+            + "FROM RemixThread r JOIN r.author a WHERE r.vibePost.id = ?1 "
+            + "ORDER BY r.createdAt ASC, r.id ASC")
+    List<RemixResponse> findPage(Long vibeId, Limit limit);
+
+    // The redundant createdAt >= bound lets the index range scan start at the cursor
+    @Query("SELECT new com.genz.translator.dto.community.RemixResponse(r.id, a.handle, a.personaTag, r.remixText, r.createdAt) "
+            + "FROM RemixThread r JOIN r.author a WHERE r.vibePost.id = ?1 "
+            + "AND r.createdAt >= ?2 AND (r.createdAt > ?2 OR r.id > ?3) "
+            + "ORDER BY r.createdAt ASC, r.id ASC")
+    List<RemixResponse> findPageAfter(Long vibeId, LocalDateTime createdAt, Long id, Limit limit);
 }
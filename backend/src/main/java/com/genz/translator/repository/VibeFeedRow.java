@@ -0,0 +1,20 @@
+package com.genz.translator.repository;
+
+import com.genz.translator.model.community.VibePost;
+
+/**
+ * A feed post together with its author's handle, read in the same query so the author entity and
+ * its roles never have to be loaded just to render a page.
+ */
+public class VibeFeedRow {
+    private final VibePost post;
+    private final String authorHandle;
+
+    public VibeFeedRow(VibePost post, String authorHandle) {
+        this.post = post;
+        this.authorHandle = authorHandle;
+    }
+
+    public VibePost getPost() { return post; }
+    public String getAuthorHandle() { return authorHandle; }
+}
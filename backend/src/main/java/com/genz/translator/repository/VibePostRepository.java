@@ -2,11 +2,20 @@ package com.genz.translator.repository;
 
 import com.genz.translator.model.community.VibePost;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
-public interface VibePostRepository extends JpaRepository<VibePost, Long> {
-       List<VibePost> findAllByOrderByCreatedAtDesc();
+public interface VibePostRepository extends JpaRepository<VibePost, Long>, VibePostRepositoryCustom {
+
+    @Query("SELECT p.id AS vibeId, t AS tag FROM VibePost p JOIN p.tags t WHERE p.id IN ?1")
+    List<VibeTag> findTagsByVibeIds(Collection<Long> vibeIds);
+
+    interface VibeTag {
+        Long getVibeId();
+        String getTag();
+    }
 }
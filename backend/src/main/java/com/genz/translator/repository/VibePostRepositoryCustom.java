@@ -0,0 +1,35 @@
+package com.genz.translator.repository;
+
+import com.genz.translator.dto.community.FeedSort;
+import com.genz.translator.dto.community.KeysetCursor;
+import com.genz.translator.model.community.PulseType;
+import com.genz.translator.model.community.VibePost;
+import com.genz.translator.model.community.VibeVisibility;
+
+import java.util.List;
+
+public interface VibePostRepositoryCustom {
+
+    /**
+     * Newest or hottest posts first, filtered in the database. Null or blank filters are left out of the query
+     * entirely rather than bound as optional parameters, so each combination gets a plan that can
+     * use its index. With a cursor the page starts strictly after that position, so reading any
+     * page costs the same as reading the first one. The cursor must come from a page with the same
+     * sort. The author handle is read in the same query.
+     */
+    List<VibeFeedRow> findFeed(String persona, String tag, VibeVisibility visibility, FeedSort sort,
+                               KeysetCursor after, int limit);
+
+    /**
+     * Adds {@code delta} to the post's counter for {@code type} in one relative UPDATE, after
+     * flushing pending changes, then refreshes {@code post} so it shows the new counts and
+     * rewrites its hot score from them.
+     */
+    void applyPulseDelta(VibePost post, PulseType type, int delta);
+
+    /**
+     * Increments the post's remix count in one relative UPDATE, refreshes {@code post} and
+     * rewrites its hot score.
+     */
+    void incrementRemixCount(VibePost post);
+}
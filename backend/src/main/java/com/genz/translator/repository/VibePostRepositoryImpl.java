@@ -0,0 +1,100 @@
+package com.genz.translator.repository;
+
+import com.genz.translator.dto.community.FeedSort;
+import com.genz.translator.dto.community.KeysetCursor;
+import com.genz.translator.model.community.PulseType;
+import com.genz.translator.model.community.VibePost;
+import com.genz.translator.model.community.VibeVisibility;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+class VibePostRepositoryImpl implements VibePostRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<VibeFeedRow> findFeed(String persona, String tag, VibeVisibility visibility, FeedSort sort,
+                                      KeysetCursor after, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<VibeFeedRow> query = cb.createQuery(VibeFeedRow.class);
+        Root<VibePost> post = query.from(VibePost.class);
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (visibility != null) {
+            predicates.add(cb.equal(post.get("visibility"), visibility));
+        }
+        if (StringUtils.hasText(persona)) {
+            predicates.add(cb.equal(cb.lower(post.get("personaTag")), persona.trim().toLowerCase(Locale.ROOT)));
+        }
+        if (StringUtils.hasText(tag)) {
+            // Tags are stored lower-cased and unique per post, so the join cannot duplicate rows
+            predicates.add(cb.equal(post.join("tags"), tag.trim().toLowerCase(Locale.ROOT)));
+        }
+        boolean hot = sort == FeedSort.HOT;
+        if (after != null) {
+            if (hot) {
+                predicates.add(before(cb, post.get("hotScore"), after.getScore(), post.get("id"), after.getId()));
+            } else {
+                predicates.add(before(cb, post.get("createdAt"), after.getCreatedAt(), post.get("id"), after.getId()));
+            }
+        }
+
+        query.select(cb.construct(VibeFeedRow.class, post, post.join("author").get("handle")))
+                .where(predicates.toArray(new Predicate[0]))
+                .orderBy(cb.desc(post.get(hot ? "hotScore" : "createdAt")), cb.desc(post.get("id")));
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    // (key, id) < (cursorKey, cursorId). The redundant bound on the key alone is what lets the
+    // index range scan start at the cursor.
+    private static <T extends Comparable<? super T>> Predicate before(CriteriaBuilder cb, Path<T> key, T cursorKey,
+                                                                       Path<Long> id, Long cursorId) {
+        return cb.and(
+                cb.lessThanOrEqualTo(key, cursorKey),
+                cb.or(cb.lessThan(key, cursorKey), cb.lessThan(id, cursorId)));
+    }
+
+    @Override
+    public void applyPulseDelta(VibePost post, PulseType type, int delta) {
+        String column = VibePost.pulseCountColumn(type);
+        // Flush first so a duplicate or already-removed pulse fails before the counter moves
+        entityManager.flush();
+        entityManager.createNativeQuery("UPDATE vibe_posts SET " + column + " = GREATEST(" + column + " + ?1, 0) WHERE id = ?2")
+                .setParameter(1, delta)
+                .setParameter(2, post.getId())
+                .executeUpdate();
+        entityManager.refresh(post);
+        updateHotScore(post);
+    }
+
+    @Override
+    public void incrementRemixCount(VibePost post) {
+        entityManager.flush();
+        entityManager.createQuery("UPDATE VibePost p SET p.remixCount = COALESCE(p.remixCount, 0) + 1 WHERE p.id = ?1")
+                .setParameter(1, post.getId())
+                .executeUpdate();
+        entityManager.refresh(post);
+        updateHotScore(post);
+    }
+
+    // The counter UPDATE above holds the row lock, so the counts just read are the latest ones
+    private void updateHotScore(VibePost post) {
+        entityManager.createQuery("UPDATE VibePost p SET p.hotScore = ?1 WHERE p.id = ?2")
+                .setParameter(1, post.computeHotScore())
+                .setParameter(2, post.getId())
+                .executeUpdate();
+    }
+}
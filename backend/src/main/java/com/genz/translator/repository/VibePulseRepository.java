@@ -7,11 +7,9 @@ import com.genz.translator.model.community.VibePulse;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
-import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface VibePulseRepository extends JpaRepository<VibePulse, Long> {
     Optional<VibePulse> findByVibePostAndUserAndPulseType(VibePost post, UserAccount user, PulseType type);
-    List<VibePulse> findByVibePost(VibePost post);
 }
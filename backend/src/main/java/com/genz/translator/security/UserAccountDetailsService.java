@@ -2,18 +2,42 @@ package com.genz.translator.security;
 
 import com.genz.translator.model.UserAccount;
 import com.genz.translator.repository.UserAccountRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+
+/**
+ * Loads accounts for Spring Security. Password logins always read the database; requests that
+ * carry an access token resolve their principal through {@link #loadUserById}, which keeps
+ * recently seen principals for a short TTL so the authenticated hot path does not query at all.
+ * Anything that changes an account's roles or profile must call {@link #evict} once the change is
+ * committed. The cached accounts are shared between requests and must be treated as read-only.
+ */
 @Service
 public class UserAccountDetailsService implements UserDetailsService {
 
     private final UserAccountRepository userAccountRepository;
+    private final Cache<Long, UserPrincipal> principals;
 
-    public UserAccountDetailsService(UserAccountRepository userAccountRepository) {
+    public UserAccountDetailsService(UserAccountRepository userAccountRepository,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${security.principal-cache.max-entries:10000}") long maxEntries,
+                                     @Value("${security.principal-cache.ttl-ms:30000}") long ttlMs) {
         this.userAccountRepository = userAccountRepository;
+        this.principals = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(Duration.ofMillis(ttlMs))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, principals, "principals");
     }
 
     @Override
@@ -22,4 +46,22 @@ public class UserAccountDetailsService implements UserDetailsService {
                 .orElseThrow(() -> new UsernameNotFoundException("User not found"));
         return new UserPrincipal(user);
     }
+
+    /**
+     * @throws UsernameNotFoundException if no account has this id
+     */
+    public UserPrincipal loadUserById(Long id) {
+        UserPrincipal principal = principals.get(id, key -> userAccountRepository.findById(key)
+                .map(UserPrincipal::new)
+                .orElse(null));
+        if (principal == null) {
+            throw new UsernameNotFoundException("User not found");
+        }
+        return principal;
+    }
+
+    public void evict(Long id) {
+        // Invalidation waits for an in-flight load of the same id, so a load that read the old row is dropped too
+        principals.invalidate(id);
+    }
 }
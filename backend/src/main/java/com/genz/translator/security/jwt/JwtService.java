@@ -1,23 +1,42 @@
 package com.genz.translator.security.jwt;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 @Service
 public class JwtService {
 
+    public static final String USER_ID_CLAIM = "uid";
+    public static final String SCOPE_CLAIM = "scope";
+    /** Scope of stream tokens, which open the live feed and are refused everywhere else. */
+    public static final String LIVE_FEED_SCOPE = "live-feed";
+
     @Value("${security.jwt.secret}")
     private String secret;
 
@@ -27,18 +46,78 @@ public class JwtService {
     @Value("${security.jwt.refresh-expiration:604800000}")
     private long refreshExpiration;
 
+    @Value("${security.jwt.stream-token-expiration:60000}")
+    private long streamTokenExpiration;
+
     @Value("${security.jwt.issuer:genz-translator}")
     private String issuer;
 
+    @Value("${security.jwt.claims-cache-size:10000}")
+    private long claimsCacheSize;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Key signInKey;
+    private JwtParser parser;
+
+    // Verified claims keyed by a SHA-256 of the token, so bearer tokens themselves are not kept in memory
+    private Cache<String, Claims> verifiedClaims;
+
+    @PostConstruct
+    void init() {
+        signInKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
+        parser = Jwts.parserBuilder().setSigningKey(signInKey).build();
+        verifiedClaims = Caffeine.newBuilder()
+                .maximumSize(claimsCacheSize)
+                .expireAfter(new Expiry<String, Claims>() {
+                    @Override
+                    public long expireAfterCreate(String key, Claims claims, long currentTime) {
+                        return untilExpiry(claims);
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+                        return untilExpiry(claims);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedClaims, "jwt-claims");
+    }
+
     public String extractUsername(String token) {
         return extractClaim(token, Claims::getSubject);
     }
 
     public <T> T extractClaim(String token, Function<Claims, T> resolver) {
-        Claims claims = extractAllClaims(token);
+        Claims claims = verify(token);
         return resolver.apply(claims);
     }
 
+    /**
+     * Checks the signature and expiry of {@code token} and returns its claims. A token already
+     * verified is answered from a bounded cache until it expires, so repeated requests with the
+     * same token pay for the signature check once. The returned claims must not be modified.
+     *
+     * @throws JwtException if the token is malformed, forged or expired
+     */
+    public Claims verify(String token) {
+        String key = hash(token);
+        Claims claims = verifiedClaims.getIfPresent(key);
+        if (claims != null && !isExpired(claims)) {
+            return claims;
+        }
+        claims = parser.parseClaimsJws(token).getBody();
+        verifiedClaims.put(key, claims);
+        return claims;
+    }
+
     public String generateAccessToken(UserDetails userDetails, Map<String, Object> claims) {
         return buildToken(userDetails, claims, expiration);
     }
@@ -47,17 +126,51 @@ public class JwtService {
         return buildToken(userDetails, new HashMap<>(), refreshExpiration);
     }
 
+    /**
+     * Token for opening the live feed, where browsers' EventSource cannot send an Authorization
+     * header and the token has to travel in the URL. It expires within a minute by default and
+     * is only checked when the stream opens, so a client fetches a new one to reconnect.
+     */
+    public String generateStreamToken(UserDetails userDetails, Long userId) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(USER_ID_CLAIM, userId);
+        claims.put(SCOPE_CLAIM, LIVE_FEED_SCOPE);
+        return buildToken(userDetails, claims, streamTokenExpiration);
+    }
+
+    public long getStreamTokenExpiration() {
+        return streamTokenExpiration;
+    }
+
     public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return username.equalsIgnoreCase(userDetails.getUsername()) && !isTokenExpired(token);
+        return isTokenValid(verify(token), userDetails);
+    }
+
+    public boolean isTokenValid(Claims claims, UserDetails userDetails) {
+        String username = claims.getSubject();
+        return username != null && username.equalsIgnoreCase(userDetails.getUsername()) && !isExpired(claims);
+    }
+
+    private static boolean isExpired(Claims claims) {
+        return claims.getExpiration() != null && claims.getExpiration().before(new Date());
     }
 
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    // Tokens without an expiry are still cached, until evicted for size
+    private static long untilExpiry(Claims claims) {
+        if (claims.getExpiration() == null) {
+            return Long.MAX_VALUE;
+        }
+        long remainingMs = claims.getExpiration().getTime() - System.currentTimeMillis();
+        return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMs, 0));
     }
 
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
     }
 
     private String buildToken(UserDetails userDetails, Map<String, Object> extraClaims, long expiryInMs) {
@@ -69,20 +182,7 @@ public class JwtService {
                 .setIssuer(issuer)
                 .setIssuedAt(now)
                 .setExpiration(expiry)
-                .signWith(getSignInKey(), SignatureAlgorithm.HS256)
+                .signWith(signInKey, SignatureAlgorithm.HS256)
                 .compact();
     }
-
-    private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSignInKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-    }
-
-    private Key getSignInKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secret);
-        return Keys.hmacShaKeyFor(keyBytes);
-    }
 }
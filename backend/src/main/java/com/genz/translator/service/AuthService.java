@@ -9,17 +9,23 @@ import com.genz.translator.model.UserAccount;
 import com.genz.translator.repository.UserAccountRepository;
 import com.genz.translator.security.UserPrincipal;
 import com.genz.translator.security.jwt.JwtService;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.security.SecureRandom;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 @Service
 public class AuthService {
@@ -37,22 +43,49 @@ public class AuthService {
     private final AuthenticationManager authenticationManager;
     private final JwtService jwtService;
     private final ProfileService profileService;
+    private final TransactionTemplate transaction;
+    private final OperationTimers registerTimers;
+    private final OperationTimers loginTimers;
+    private final OperationTimers refreshTimers;
     private final SecureRandom secureRandom = new SecureRandom();
 
     public AuthService(UserAccountRepository userAccountRepository,
                        PasswordEncoder passwordEncoder,
                        AuthenticationManager authenticationManager,
                        JwtService jwtService,
-                       ProfileService profileService) {
+                       ProfileService profileService,
+                       MeterRegistry meterRegistry,
+                       PlatformTransactionManager transactionManager) {
         this.userAccountRepository = userAccountRepository;
         this.passwordEncoder = passwordEncoder;
         this.authenticationManager = authenticationManager;
         this.jwtService = jwtService;
         this.profileService = profileService;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.registerTimers = new OperationTimers(meterRegistry, "register");
+        this.loginTimers = new OperationTimers(meterRegistry, "login");
+        this.refreshTimers = new OperationTimers(meterRegistry, "refresh");
     }
 
-    @Transactional
     public AuthResponse register(RegisterRequest request) {
+        return timed(registerTimers, () -> doRegister(request));
+    }
+
+    public AuthResponse login(LoginRequest request) {
+        return timed(loginTimers, () -> doLogin(request));
+    }
+
+    public AuthResponse refresh(RefreshRequest request) {
+        return timed(refreshTimers, () -> doRefresh(request));
+    }
+
+    private AuthResponse doRegister(RegisterRequest request) {
+        // Hash before the transaction opens, so waiting for the hashing pool never holds a connection
+        String passwordHash = passwordEncoder.encode(request.getPassword());
+        return transaction.execute(status -> persistNewUser(request, passwordHash));
+    }
+
+    private AuthResponse persistNewUser(RegisterRequest request, String passwordHash) {
         if (userAccountRepository.existsByEmailIgnoreCase(request.getEmail())) {
             throw new IllegalArgumentException("Email already registered");
         }
@@ -63,7 +96,7 @@ public class AuthService {
         UserAccount user = new UserAccount(
                 request.getEmail().trim().toLowerCase(),
                 request.getHandle().trim(),
-                passwordEncoder.encode(request.getPassword())
+                passwordHash
         );
         user.getRoles().add("USER");
         user.setPersonaTag(randomElement(PERSONA_LIBRARY));
@@ -75,7 +108,7 @@ public class AuthService {
         return buildAuthPayload(saved, profile);
     }
 
-    public AuthResponse login(LoginRequest request) {
+    private AuthResponse doLogin(LoginRequest request) {
         String email = request.getEmail().trim().toLowerCase();
         UsernamePasswordAuthenticationToken authToken =
             new UsernamePasswordAuthenticationToken(email, request.getPassword());
@@ -89,12 +122,12 @@ public class AuthService {
         return buildAuthPayload(user, profile);
     }
 
-    public AuthResponse refresh(RefreshRequest request) {
-        String username = jwtService.extractUsername(request.getRefreshToken());
-        UserAccount user = userAccountRepository.findByEmailIgnoreCase(username)
+    private AuthResponse doRefresh(RefreshRequest request) {
+        Claims claims = jwtService.verify(request.getRefreshToken());
+        UserAccount user = userAccountRepository.findByEmailIgnoreCase(claims.getSubject())
                 .orElseThrow(() -> new IllegalArgumentException("Invalid refresh token"));
         UserPrincipal principal = new UserPrincipal(user);
-        if (!jwtService.isTokenValid(request.getRefreshToken(), principal)) {
+        if (!jwtService.isTokenValid(claims, principal)) {
             throw new IllegalArgumentException("Refresh token expired");
         }
         ProfileResponse profile = profileService.toResponse(user);
@@ -108,6 +141,7 @@ public class AuthService {
     private AuthResponse buildAuthPayload(UserAccount user, ProfileResponse profile, String refreshTokenOverride) {
         UserPrincipal principal = new UserPrincipal(user);
         String accessToken = jwtService.generateAccessToken(principal, Map.of(
+                JwtService.USER_ID_CLAIM, user.getId(),
                 "handle", user.getHandle(),
                 "persona", user.getPersonaTag()
         ));
@@ -117,7 +151,35 @@ public class AuthService {
         return new AuthResponse(accessToken, refreshToken, profile);
     }
 
+    // Password hashing dominates these, so they get their own timer beside http.server.requests
+    private static AuthResponse timed(OperationTimers timers, Supplier<AuthResponse> action) {
+        long start = System.nanoTime();
+        Timer outcome = timers.failure();
+        try {
+            AuthResponse response = action.get();
+            outcome = timers.success();
+            return response;
+        } finally {
+            outcome.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
     private String randomElement(List<String> source) {
         return source.get(secureRandom.nextInt(source.size()));
     }
+
+    private record OperationTimers(Timer success, Timer failure) {
+
+        OperationTimers(MeterRegistry meterRegistry, String operation) {
+            this(authTimer(meterRegistry, operation, "success"), authTimer(meterRegistry, operation, "failure"));
+        }
+
+        private static Timer authTimer(MeterRegistry meterRegistry, String operation, String outcome) {
+            return Timer.builder("translator.auth.duration")
+                    .description("Time to register, log in or refresh a session")
+                    .tag("operation", operation)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry);
+        }
+    }
 }
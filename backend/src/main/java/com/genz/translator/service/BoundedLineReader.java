@@ -0,0 +1,85 @@
+package com.genz.translator.service;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Reads newline-delimited input one line at a time without ever holding more than one line, and
+ * never more than {@code maxLineLength} characters of it, in memory. Over-long lines are skipped
+ * up to the next newline and reported through {@link #lastLineTruncated()}.
+ */
+class BoundedLineReader {
+
+    private final Reader in;
+    private final int maxLineLength;
+    private final char[] buffer = new char[8192];
+    private final StringBuilder line = new StringBuilder();
+    private int position;
+    private int limit;
+    private boolean truncated;
+
+    BoundedLineReader(Reader in, int maxLineLength) {
+        this.in = in;
+        this.maxLineLength = maxLineLength;
+    }
+
+    /**
+     * @return the next line without its terminator, or null at end of input
+     */
+    String readLine() throws IOException {
+        line.setLength(0);
+        truncated = false;
+        boolean sawInput = false;
+        while (true) {
+            if (position == limit) {
+                limit = in.read(buffer, 0, buffer.length);
+                position = 0;
+                if (limit <= 0) {
+                    limit = 0;
+                    return sawInput ? finishLine() : null;
+                }
+            }
+            sawInput = true;
+            int start = position;
+            while (position < limit && buffer[position] != '\n') {
+                position++;
+            }
+            append(start, position);
+            if (position < limit) {
+                position++;
+                return finishLine();
+            }
+        }
+    }
+
+    boolean lastLineTruncated() {
+        return truncated;
+    }
+
+    /**
+     * @return true if another line can be read without blocking on the client
+     */
+    boolean hasBufferedInput() throws IOException {
+        return position < limit || in.ready();
+    }
+
+    private void append(int start, int end) {
+        if (truncated) {
+            return;
+        }
+        if (line.length() + (end - start) > maxLineLength) {
+            truncated = true;
+            line.setLength(0);
+            return;
+        }
+        line.append(buffer, start, end - start);
+    }
+
+    private String finishLine() {
+        int length = line.length();
+        if (length > 0 && line.charAt(length - 1) == '\r') {
+            line.setLength(length - 1);
+        }
+        return line.toString();
+    }
+}
@@ -4,14 +4,20 @@ import com.genz.translator.dto.community.*;
 import com.genz.translator.model.UserAccount;
 import com.genz.translator.model.community.*;
 import com.genz.translator.repository.RemixThreadRepository;
+import com.genz.translator.repository.VibeFeedRow;
 import com.genz.translator.repository.VibePostRepository;
 import com.genz.translator.repository.VibePulseRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
 
-import java.util.Comparator;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -20,19 +26,32 @@ import java.util.stream.Collectors;
 @Service
 public class CommunityService {
 
+    private static final int DEFAULT_PAGE_LIMIT = 50;
+    private static final int MAX_PAGE_LIMIT = 100;
+
     private final VibePostRepository vibePostRepository;
     private final VibePulseRepository vibePulseRepository;
     private final RemixThreadRepository remixThreadRepository;
     private final ProfileService profileService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final FeedCache feedCache;
+    private final TransactionTemplate readOnlyTransaction;
 
     public CommunityService(VibePostRepository vibePostRepository,
                             VibePulseRepository vibePulseRepository,
                             RemixThreadRepository remixThreadRepository,
-                            ProfileService profileService) {
+                            ProfileService profileService,
+                            ApplicationEventPublisher eventPublisher,
+                            FeedCache feedCache,
+                            PlatformTransactionManager transactionManager) {
         this.vibePostRepository = vibePostRepository;
         this.vibePulseRepository = vibePulseRepository;
         this.remixThreadRepository = remixThreadRepository;
         this.profileService = profileService;
+        this.eventPublisher = eventPublisher;
+        this.feedCache = feedCache;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
     }
 
     @Transactional
@@ -55,21 +74,43 @@ public class CommunityService {
                     .collect(Collectors.toList()));
         }
         VibePost saved = vibePostRepository.save(vibe);
-        return toResponse(saved);
+        return publish(VibeChangedEvent.Kind.CREATED, toResponse(saved));
     }
 
-    @Transactional(readOnly = true)
-    public List<VibeResponse> getFeed(String persona, String tag, VibeVisibility visibility) {
-        List<VibePost> posts = vibePostRepository.findAllByOrderByCreatedAtDesc();
-        return posts.stream()
-                .filter(post -> visibility == null || post.getVisibility() == visibility)
-                .filter(post -> !StringUtils.hasText(persona) ||
-                    (post.getPersonaTag() != null && persona.equalsIgnoreCase(post.getPersonaTag())))
-                .filter(post -> !StringUtils.hasText(tag) || post.getTags().stream()
-                        .anyMatch(t -> t.equalsIgnoreCase(tag)))
-                .limit(50)
-                .map(this::toResponse)
-                .collect(Collectors.toList());
+    /**
+     * One page of the feed, newest first unless {@code sort} is {@link FeedSort#HOT}. Pass the
+     * previous page's {@code nextCursor} to continue. {@code limit} defaults to 50 and is capped
+     * at 100. Pages are served from {@link FeedCache}, so a hit costs no queries.
+     *
+     * @throws IllegalArgumentException if {@code cursor} is malformed or from another sort
+     */
+    public CursorPage<VibeResponse> getFeed(String persona, String tag, VibeVisibility visibility,
+                                            FeedSort sort, String cursor, Integer limit) {
+        FeedSort order = sort == null ? FeedSort.RECENT : sort;
+        int pageSize = pageSize(limit);
+        KeysetCursor after = StringUtils.hasText(cursor) ? KeysetCursor.decode(cursor) : null;
+        if (after != null && after.isScore() != (order == FeedSort.HOT)) {
+            throw new IllegalArgumentException("Cursor belongs to a different sort");
+        }
+
+        FeedFilter filter = FeedFilter.of(persona, tag, visibility);
+        return feedCache.get(filter, order, after == null ? null : cursor, pageSize,
+                () -> readOnlyTransaction.execute(status -> loadFeed(filter, order, after, pageSize)));
+    }
+
+    private CursorPage<VibeResponse> loadFeed(FeedFilter filter, FeedSort order, KeysetCursor after, int pageSize) {
+        // One extra row tells us whether another page exists without a count query
+        List<VibeFeedRow> rows = vibePostRepository.findFeed(filter.persona(), filter.tag(), filter.visibility(),
+                order, after, pageSize + 1);
+        String nextCursor = null;
+        if (rows.size() > pageSize) {
+            rows = rows.subList(0, pageSize);
+            VibePost last = rows.get(pageSize - 1).getPost();
+            nextCursor = (order == FeedSort.HOT
+                    ? KeysetCursor.ofScore(last.getHotScore(), last.getId())
+                    : new KeysetCursor(last.getCreatedAt(), last.getId())).encode();
+        }
+        return new CursorPage<>(toResponses(rows), nextCursor);
     }
 
     @Transactional
@@ -80,14 +121,16 @@ public class CommunityService {
         var existing = vibePulseRepository.findByVibePostAndUserAndPulseType(post, user, pulseType);
         if (existing.isPresent()) {
             vibePulseRepository.delete(existing.get());
+            vibePostRepository.applyPulseDelta(post, pulseType, -1);
         } else {
             VibePulse pulse = new VibePulse();
             pulse.setPulseType(pulseType);
             pulse.setUser(user);
             pulse.setVibePost(post);
             vibePulseRepository.save(pulse);
+            vibePostRepository.applyPulseDelta(post, pulseType, 1);
         }
-        return toResponse(post);
+        return publish(VibeChangedEvent.Kind.PULSED, toResponse(post));
     }
 
     @Transactional
@@ -100,43 +143,86 @@ public class CommunityService {
         remix.setVibePost(post);
         remix.setRemixText(request.getRemixText());
         remixThreadRepository.save(remix);
-        int currentRemix = post.getRemixCount() == null ? 0 : post.getRemixCount();
-        post.setRemixCount(currentRemix + 1);
-        vibePostRepository.save(post);
-        return toResponse(post);
+        vibePostRepository.incrementRemixCount(post);
+        return publish(VibeChangedEvent.Kind.REMIXED, toResponse(post));
     }
 
+    /**
+     * One page of a vibe's remixes, oldest first. Pass the previous page's {@code nextCursor} to
+     * continue. {@code limit} defaults to 50 and is capped at 100.
+     *
+     * @throws IllegalArgumentException if the vibe does not exist or {@code cursor} is malformed
+     */
     @Transactional(readOnly = true)
-    public List<RemixResponse> getRemixes(Long vibeId) {
-        VibePost post = vibePostRepository.findById(vibeId)
-                .orElseThrow(() -> new IllegalArgumentException("Vibe not found"));
-        return remixThreadRepository.findByVibePostOrderByCreatedAtAsc(post).stream()
-                .map(remix -> new RemixResponse(
-                        remix.getId(),
-                        remix.getAuthor().getHandle(),
-                        remix.getAuthor().getPersonaTag(),
-                        remix.getRemixText(),
-                        remix.getCreatedAt()
-                ))
-                .collect(Collectors.toList());
+    public CursorPage<RemixResponse> getRemixes(Long vibeId, String cursor, Integer limit) {
+        int pageSize = pageSize(limit);
+        KeysetCursor after = StringUtils.hasText(cursor) ? KeysetCursor.decode(cursor) : null;
+        if (after != null && after.isScore()) {
+            throw new IllegalArgumentException("Cursor belongs to a different list");
+        }
+        if (!vibePostRepository.existsById(vibeId)) {
+            throw new IllegalArgumentException("Vibe not found");
+        }
+
+        Limit fetch = Limit.of(pageSize + 1);
+        List<RemixResponse> remixes = after == null
+                ? remixThreadRepository.findPage(vibeId, fetch)
+                : remixThreadRepository.findPageAfter(vibeId, after.getCreatedAt(), after.getId(), fetch);
+        String nextCursor = null;
+        if (remixes.size() > pageSize) {
+            remixes = remixes.subList(0, pageSize);
+            RemixResponse last = remixes.get(pageSize - 1);
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        return new CursorPage<>(remixes, nextCursor);
+    }
+
+    private static int pageSize(Integer limit) {
+        return limit == null ? DEFAULT_PAGE_LIMIT : Math.max(1, Math.min(limit, MAX_PAGE_LIMIT));
+    }
+
+    private VibeResponse publish(VibeChangedEvent.Kind kind, VibeResponse vibe) {
+        eventPublisher.publishEvent(new VibeChangedEvent(kind, vibe));
+        return vibe;
     }
 
     private VibeResponse toResponse(VibePost post) {
-        Map<String, Long> pulses = vibePulseRepository.findByVibePost(post).stream()
-                .collect(Collectors.groupingBy(pulse -> pulse.getPulseType().name(), Collectors.counting()));
-        return new VibeResponse(
-                post.getId(),
-                post.getAuthor().getHandle(),
-                post.getPersonaTag(),
-                post.getAccentColor(),
-                post.getOriginalText(),
-                post.getTranslatedText(),
-                post.getInsight(),
-            post.getTags() == null ? List.of() : post.getTags(),
-                post.getVisibility(),
-                post.getCreatedAt(),
-                post.getRemixCount(),
-                pulses
-        );
+        return toResponses(List.of(new VibeFeedRow(post, post.getAuthor().getHandle()))).get(0);
+    }
+
+    /**
+     * Renders posts with a single extra query for the tags of the whole page, however many posts
+     * there are. Pulse counts come from the counter columns on the post itself.
+     */
+    private List<VibeResponse> toResponses(List<VibeFeedRow> rows) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        List<Long> ids = rows.stream().map(row -> row.getPost().getId()).collect(Collectors.toList());
+
+        Map<Long, List<String>> tags = new HashMap<>();
+        for (VibePostRepository.VibeTag tag : vibePostRepository.findTagsByVibeIds(ids)) {
+            tags.computeIfAbsent(tag.getVibeId(), id -> new ArrayList<>()).add(tag.getTag());
+        }
+
+        return rows.stream()
+                .map(row -> {
+                    VibePost post = row.getPost();
+                    return new VibeResponse(
+                            post.getId(),
+                            row.getAuthorHandle(),
+                            post.getPersonaTag(),
+                            post.getAccentColor(),
+                            post.getOriginalText(),
+                            post.getTranslatedText(),
+                            post.getInsight(),
+                            tags.getOrDefault(post.getId(), List.of()),
+                            post.getVisibility(),
+                            post.getCreatedAt(),
+                            post.getRemixCount(),
+                            post.getPulseCounts()
+                    );
+                })
+                .collect(Collectors.toList());
     }
 }
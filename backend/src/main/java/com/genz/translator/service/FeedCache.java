@@ -0,0 +1,182 @@
+package com.genz.translator.service;
+
+import com.genz.translator.concurrent.SingleFlight;
+import com.genz.translator.dto.community.CursorPage;
+import com.genz.translator.dto.community.FeedSort;
+import com.genz.translator.dto.community.VibeResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Short-lived cache of assembled feed pages. The feed does not depend on who is asking, so every
+ * viewer of the same filters, sort and cursor shares one page.
+ * <p>
+ * Pages are dropped as soon as a committed {@link VibeChangedEvent} could change them rather than
+ * waiting out the TTL:
+ * <ul>
+ *   <li>a new post invalidates the first page of every newest-first feed it matches;</li>
+ *   <li>a pulse or remix invalidates every page that contains the post, found through a reverse
+ *       index from post id to cached pages;</li>
+ *   <li>either invalidates every hot feed the post matches, since its score may move it onto any
+ *       page.</li>
+ * </ul>
+ * Hot pages and first pages are also indexed by filter, so finding the feeds a post matches costs
+ * one {@link FeedFilter#matches} per distinct filter rather than a walk over every cached page.
+ * A page is stored and indexed before the loader checks whether an invalidation ran meanwhile, and
+ * is dropped again if one did, so a stale read cannot outlive the change that made it stale: an
+ * invalidation either sees the stored page or is seen by the check. The TTL only bounds staleness
+ * from writes that bypass the service.
+ */
+@Component
+public class FeedCache {
+
+    private record Key(FeedFilter filter, FeedSort sort, String cursor, int limit) {}
+
+    private final Cache<Key, CursorPage<VibeResponse>> cache;
+    private final Map<Long, Set<Key>> keysByPost = new ConcurrentHashMap<>();
+    private final Map<FeedFilter, Set<Key>> keysByFilter = new ConcurrentHashMap<>();
+    private final SingleFlight<Key, CursorPage<VibeResponse>> singleFlight = new SingleFlight<>();
+    private final AtomicLong invalidations = new AtomicLong();
+    private final Counter invalidatedPages;
+
+    @Autowired
+    public FeedCache(MeterRegistry meterRegistry,
+                     @Value("${translator.feed-cache.max-entries:10000}") long maxEntries,
+                     @Value("${translator.feed-cache.ttl-ms:5000}") long ttlMs) {
+        this(meterRegistry, maxEntries, ttlMs, Ticker.systemTicker(), Runnable::run);
+    }
+
+    FeedCache(MeterRegistry meterRegistry, long maxEntries, long ttlMs, Ticker ticker, Executor maintenance) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(Duration.ofMillis(ttlMs))
+                .ticker(ticker)
+                .executor(maintenance)
+                .removalListener((Key key, CursorPage<VibeResponse> page, RemovalCause cause) -> unindex(key, page))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "feed");
+        this.invalidatedPages = Counter.builder("translator.feed.invalidations")
+                .description("Cached feed pages dropped because a post on or near them changed")
+                .register(meterRegistry);
+    }
+
+    public CursorPage<VibeResponse> get(FeedFilter filter, FeedSort sort, String cursor, int limit,
+                                        Supplier<CursorPage<VibeResponse>> loader) {
+        Key key = new Key(filter, sort, cursor, limit);
+        CursorPage<VibeResponse> cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        return singleFlight.execute(key, () -> {
+            long seen = invalidations.get();
+            CursorPage<VibeResponse> page = loader.get();
+            // Put before indexing: replacing an older page unindexes it, which must not undo this one
+            cache.put(key, page);
+            index(key, page);
+            if (invalidations.get() != seen) {
+                cache.asMap().remove(key, page);
+            }
+            return page;
+        });
+    }
+
+    public long estimatedSize() {
+        return cache.estimatedSize();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onVibeChanged(VibeChangedEvent event) {
+        invalidations.incrementAndGet();
+        VibeResponse vibe = event.getVibe();
+        Set<Key> stale = new HashSet<>();
+        Set<Key> containing = keysByPost.remove(vibe.getId());
+        if (containing != null) {
+            stale.addAll(containing);
+        }
+        boolean created = event.getKind() == VibeChangedEvent.Kind.CREATED;
+        keysByFilter.forEach((filter, keys) -> {
+            if (filter.matches(vibe)) {
+                for (Key key : keys) {
+                    if (key.sort() == FeedSort.HOT || created) {
+                        stale.add(key);
+                    }
+                }
+            }
+        });
+        if (!stale.isEmpty()) {
+            invalidatedPages.increment(stale.size());
+            cache.invalidateAll(stale);
+        }
+    }
+
+    private void index(Key key, CursorPage<VibeResponse> page) {
+        for (VibeResponse vibe : page.getItems()) {
+            keysByPost.computeIfAbsent(vibe.getId(), id -> ConcurrentHashMap.newKeySet()).add(key);
+        }
+        if (isHead(key)) {
+            keysByFilter.computeIfAbsent(key.filter(), filter -> ConcurrentHashMap.newKeySet()).add(key);
+        }
+    }
+
+    private void unindex(Key key, CursorPage<VibeResponse> page) {
+        if (page == null) {
+            return;
+        }
+        for (VibeResponse vibe : page.getItems()) {
+            keysByPost.computeIfPresent(vibe.getId(), (id, keys) -> {
+                // A newer page stored under the same key may list this post too; checked under the
+                // bin lock so it cannot race with index() for the same post
+                if (!contains(cache.asMap().get(key), id)) {
+                    keys.remove(key);
+                }
+                return keys.isEmpty() ? null : keys;
+            });
+        }
+        if (isHead(key)) {
+            keysByFilter.computeIfPresent(key.filter(), (filter, keys) -> {
+                // Same as above: a page stored over this one keeps the key indexed
+                if (!cache.asMap().containsKey(key)) {
+                    keys.remove(key);
+                }
+                return keys.isEmpty() ? null : keys;
+            });
+        }
+    }
+
+    // Pages a post can land on without having been listed there before
+    private static boolean isHead(Key key) {
+        return key.sort() == FeedSort.HOT || key.cursor() == null;
+    }
+
+    private static boolean contains(CursorPage<VibeResponse> page, Long postId) {
+        if (page == null) {
+            return false;
+        }
+        for (VibeResponse vibe : page.getItems()) {
+            if (vibe.getId().equals(postId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
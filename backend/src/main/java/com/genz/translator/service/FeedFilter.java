@@ -0,0 +1,28 @@
+package com.genz.translator.service;
+
+import com.genz.translator.dto.community.VibeResponse;
+import com.genz.translator.model.community.VibeVisibility;
+import org.springframework.util.StringUtils;
+
+import java.util.Locale;
+
+/**
+ * The persona, tag and visibility filters of a feed request, normalized the way the feed query
+ * compares them, so equal filters are equal keys and {@link #matches} agrees with the database.
+ */
+public record FeedFilter(String persona, String tag, VibeVisibility visibility) {
+
+    public static FeedFilter of(String persona, String tag, VibeVisibility visibility) {
+        return new FeedFilter(normalize(persona), normalize(tag), visibility);
+    }
+
+    public boolean matches(VibeResponse vibe) {
+        return (visibility == null || visibility == vibe.getVisibility())
+                && (persona == null || persona.equalsIgnoreCase(vibe.getPersonaTag()))
+                && (tag == null || vibe.getTags().contains(tag));
+    }
+
+    private static String normalize(String value) {
+        return StringUtils.hasText(value) ? value.trim().toLowerCase(Locale.ROOT) : null;
+    }
+}
@@ -0,0 +1,211 @@
+package com.genz.translator.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.genz.translator.dto.community.VibeCountsUpdate;
+import com.genz.translator.dto.community.VibeResponse;
+import com.genz.translator.model.community.VibeVisibility;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+/**
+ * In-process fan-out of community changes to Server-Sent Events subscribers.
+ * <p>
+ * Each committed {@link VibeChangedEvent} is serialized once and the same frame is queued for
+ * every interested subscriber, so the cost of an event does not depend on how many clients are
+ * listening beyond a queue offer each. Every subscriber has its own bounded queue, drained by a
+ * small shared pool of sender threads. A subscriber whose queue is full when a frame arrives is
+ * too slow to keep up and is disconnected rather than allowed to grow without bound; the client
+ * reconnects with a fresh stream token and can re-read the feed.
+ * <p>
+ * New vibes are sent as {@code vibe} events, filtered by the subscriber's persona, tag and
+ * visibility like the feed itself. Pulse and remix changes are sent to everyone as {@code counts}
+ * events holding the absolute counts.
+ */
+@Component
+public class LiveFeedBroadcaster {
+
+    private static final Logger log = LoggerFactory.getLogger(LiveFeedBroadcaster.class);
+
+    private final ObjectMapper objectMapper;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ExecutorService senders;
+    private final int bufferSize;
+    private final int maxSubscribers;
+    private final long timeoutMs;
+    private final Counter published;
+    private final Counter evicted;
+
+    public LiveFeedBroadcaster(ObjectMapper objectMapper,
+                               MeterRegistry meterRegistry,
+                               @Value("${translator.live.buffer-size:256}") int bufferSize,
+                               @Value("${translator.live.max-subscribers:10000}") int maxSubscribers,
+                               @Value("${translator.live.timeout-ms:1800000}") long timeoutMs,
+                               @Value("${translator.live.sender-threads:4}") int senderThreads) {
+        this.objectMapper = objectMapper;
+        this.bufferSize = bufferSize;
+        this.maxSubscribers = maxSubscribers;
+        this.timeoutMs = timeoutMs;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.senders = Executors.newFixedThreadPool(senderThreads, runnable -> {
+            Thread thread = new Thread(runnable, "live-feed-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Gauge.builder("translator.live.subscribers", subscribers, Set::size)
+                .description("Connected live feed subscribers")
+                .register(meterRegistry);
+        this.published = Counter.builder("translator.live.events")
+                .description("Events fanned out to live feed subscribers")
+                .register(meterRegistry);
+        this.evicted = Counter.builder("translator.live.evictions")
+                .description("Live feed subscribers disconnected for falling behind")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @throws IllegalStateException if the subscriber limit has been reached
+     */
+    public SseEmitter subscribe(String persona, String tag, VibeVisibility visibility) {
+        if (subscribers.size() >= maxSubscribers) {
+            throw new IllegalStateException("Live feed is at capacity");
+        }
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Subscriber subscriber = new Subscriber(emitter, FeedFilter.of(persona, tag, visibility), bufferSize);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> close(subscriber));
+        emitter.onError(error -> close(subscriber));
+        subscribers.add(subscriber);
+        return emitter;
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onVibeChanged(VibeChangedEvent event) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        VibeResponse vibe = event.getVibe();
+        if (event.getKind() == VibeChangedEvent.Kind.CREATED) {
+            Set<DataWithMediaType> frame = frame("vibe", vibe);
+            broadcast(frame, subscriber -> subscriber.filter.matches(vibe));
+        } else {
+            Set<DataWithMediaType> frame = frame("counts",
+                    new VibeCountsUpdate(vibe.getId(), vibe.getPulses(), vibe.getRemixCount()));
+            broadcast(frame, subscriber -> true);
+        }
+        published.increment();
+    }
+
+    // Keeps idle connections open through proxies and flushes out clients that have gone away
+    @Scheduled(fixedDelayString = "${translator.live.heartbeat-interval-ms:20000}")
+    public void heartbeat() {
+        if (!subscribers.isEmpty()) {
+            broadcast(SseEmitter.event().comment("keep-alive").build(), subscriber -> true);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.forEach(this::close);
+        senders.shutdown();
+    }
+
+    private Set<DataWithMediaType> frame(String name, Object payload) {
+        try {
+            return SseEmitter.event().name(name).data(objectMapper.writeValueAsString(payload)).build();
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Unable to serialize live feed event", ex);
+        }
+    }
+
+    private void broadcast(Set<DataWithMediaType> frame, Predicate<Subscriber> filter) {
+        for (Subscriber subscriber : subscribers) {
+            if (!filter.test(subscriber)) {
+                continue;
+            }
+            if (subscriber.queue.offer(frame)) {
+                schedule(subscriber);
+            } else {
+                evicted.increment();
+                log.debug("Disconnecting live feed subscriber that fell {} events behind", bufferSize);
+                close(subscriber);
+            }
+        }
+    }
+
+    private void close(Subscriber subscriber) {
+        subscribers.remove(subscriber);
+        subscriber.closed = true;
+        subscriber.queue.clear();
+        // Completion is left to a sender thread so the caller never waits on a stuck socket
+        schedule(subscriber);
+    }
+
+    private void schedule(Subscriber subscriber) {
+        if (subscriber.scheduled.compareAndSet(false, true)) {
+            senders.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        do {
+            try {
+                Set<DataWithMediaType> frame;
+                while (!subscriber.closed && (frame = subscriber.queue.poll()) != null) {
+                    subscriber.emitter.send(frame);
+                }
+            } catch (IOException | IllegalStateException ex) {
+                // The client went away or the emitter already completed
+                subscriber.closed = true;
+                subscribers.remove(subscriber);
+            }
+            if (subscriber.closed) {
+                subscriber.queue.clear();
+                subscriber.emitter.complete();
+                return;
+            }
+            subscriber.scheduled.set(false);
+            // A frame or close that arrived after the last poll but before the flag was cleared must not be stranded
+        } while ((subscriber.closed || !subscriber.queue.isEmpty()) && subscriber.scheduled.compareAndSet(false, true));
+    }
+
+    private static final class Subscriber {
+        private final SseEmitter emitter;
+        private final FeedFilter filter;
+        private final BlockingQueue<Set<DataWithMediaType>> queue;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private volatile boolean closed;
+
+        private Subscriber(SseEmitter emitter, FeedFilter filter, int bufferSize) {
+            this.emitter = emitter;
+            this.filter = filter;
+            this.queue = new ArrayBlockingQueue<>(bufferSize);
+        }
+    }
+}
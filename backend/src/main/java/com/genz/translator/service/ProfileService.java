@@ -4,6 +4,8 @@ import com.genz.translator.dto.profile.ProfileResponse;
 import com.genz.translator.dto.profile.ProfileUpdateRequest;
 import com.genz.translator.model.UserAccount;
 import com.genz.translator.repository.UserAccountRepository;
+import com.genz.translator.security.UserAccountDetailsService;
+import com.genz.translator.security.UserPrincipal;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
@@ -13,16 +15,26 @@ import org.springframework.util.StringUtils;
 public class ProfileService {
 
     private final UserAccountRepository userAccountRepository;
+    private final UserAccountDetailsService userDetailsService;
 
-    public ProfileService(UserAccountRepository userAccountRepository) {
+    public ProfileService(UserAccountRepository userAccountRepository,
+                          UserAccountDetailsService userDetailsService) {
         this.userAccountRepository = userAccountRepository;
+        this.userDetailsService = userDetailsService;
     }
 
+    /**
+     * The signed-in account. When the request was authenticated with a token this is the account
+     * the filter already resolved, shared with other requests, so callers must not modify it.
+     */
     public UserAccount getCurrentUser() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         if (authentication == null || !authentication.isAuthenticated()) {
             throw new IllegalStateException("No authenticated user found");
         }
+        if (authentication.getPrincipal() instanceof UserPrincipal principal) {
+            return principal.getUser();
+        }
 
         String email = authentication.getName();
         return userAccountRepository.findByEmailIgnoreCase(email)
@@ -48,7 +60,9 @@ public class ProfileService {
     }
 
     public ProfileResponse update(ProfileUpdateRequest request) {
-        UserAccount user = getCurrentUser();
+        // A fresh copy, since the current user may be the cached instance other requests are reading
+        UserAccount user = userAccountRepository.findById(getCurrentUser().getId())
+                .orElseThrow(() -> new IllegalStateException("Unable to resolve current user"));
         if (StringUtils.hasText(request.getBio())) {
             user.setBio(request.getBio().trim());
         }
@@ -59,6 +73,7 @@ public class ProfileService {
             user.setAccentColor(request.getAccentColor().trim());
         }
         UserAccount saved = userAccountRepository.save(user);
+        userDetailsService.evict(saved.getId());
         return toResponse(saved);
     }
 }
@@ -0,0 +1,168 @@
+package com.genz.translator.service;
+
+import com.genz.translator.model.community.PulseType;
+import com.genz.translator.model.community.VibePost;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Repairs drift between the pulse counter columns on {@code vibe_posts} and the rows in
+ * {@code vibe_pulses}, which stay the source of truth, and between the counters and the hot score
+ * derived from them.
+ * <p>
+ * Posts are walked in id order a chunk at a time, comparing stored counters against a grouped
+ * count of that chunk's pulses. Only counters that disagree are rewritten, each with a statement
+ * that recounts in the database rather than writing the value read here, so a pulse landing
+ * mid-run is not overwritten. A hot score is only written while the row still holds the counts it
+ * was computed from; if a pulse or remix got there first, that update has already rescored the
+ * post under the row lock. A counter caught mid-update is fixed on the next run. The first run
+ * after an upgrade also backfills both for existing posts.
+ */
+@Component
+public class PulseCounterReconciler {
+
+    private static final Logger log = LoggerFactory.getLogger(PulseCounterReconciler.class);
+
+    private static final String COUNT_SQL =
+            "SELECT vibe_id, pulse_type, COUNT(*) FROM vibe_pulses WHERE vibe_id BETWEEN ? AND ? GROUP BY vibe_id, pulse_type";
+    private static final double SCORE_TOLERANCE = 1e-9;
+
+    private record StoredPost(int[] pulses, int remixes, LocalDateTime createdAt, double hotScore) {}
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int chunkSize;
+    private final Counter repairs;
+    private final Counter scoreRepairs;
+    private final String selectCountersSql;
+    private final String hotScoreSql;
+    private final Map<PulseType, String> repairSql = new EnumMap<>(PulseType.class);
+
+    public PulseCounterReconciler(JdbcTemplate jdbcTemplate,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${translator.community.pulse-reconcile-chunk-size:1000}") int chunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.chunkSize = chunkSize;
+        this.repairs = Counter.builder("translator.community.pulse.repairs")
+                .description("Pulse counters rewritten by reconciliation")
+                .register(meterRegistry);
+        this.scoreRepairs = Counter.builder("translator.community.hot-score.repairs")
+                .description("Hot scores rewritten by reconciliation")
+                .register(meterRegistry);
+
+        String columns = Arrays.stream(PulseType.values())
+                .map(VibePost::pulseCountColumn)
+                .collect(Collectors.joining(", "));
+        this.selectCountersSql = "SELECT id, remix_count, created_at, hot_score, " + columns
+                + " FROM vibe_posts WHERE id > ? ORDER BY id LIMIT ?";
+        this.hotScoreSql = "UPDATE vibe_posts SET hot_score = ? WHERE id = ? AND COALESCE(remix_count, 0) = ?"
+                + Arrays.stream(PulseType.values())
+                        .map(type -> " AND " + VibePost.pulseCountColumn(type) + " = ?")
+                        .collect(Collectors.joining());
+        for (PulseType type : PulseType.values()) {
+            String column = VibePost.pulseCountColumn(type);
+            repairSql.put(type, "UPDATE vibe_posts SET " + column + " = (SELECT COUNT(*) FROM vibe_pulses "
+                    + "WHERE vibe_id = ? AND pulse_type = ?) WHERE id = ?");
+        }
+    }
+
+    @Scheduled(initialDelayString = "${translator.community.pulse-reconcile-initial-delay-ms:60000}",
+               fixedDelayString = "${translator.community.pulse-reconcile-interval-ms:3600000}")
+    public void scheduledReconcile() {
+        try {
+            reconcile();
+        } catch (RuntimeException ex) {
+            log.warn("Pulse counter reconciliation failed", ex);
+        }
+    }
+
+    /**
+     * @return the number of counters that had drifted and were rewritten
+     */
+    public int reconcile() {
+        int repaired = 0;
+        int rescored = 0;
+        long lastId = 0;
+        while (true) {
+            Map<Long, StoredPost> stored = new HashMap<>();
+            List<Long> ids = new ArrayList<>();
+            jdbcTemplate.query(selectCountersSql, rs -> {
+                long id = rs.getLong(1);
+                int[] counts = new int[PulseType.values().length];
+                for (int i = 0; i < counts.length; i++) {
+                    counts[i] = rs.getInt(i + 5);
+                }
+                Timestamp createdAt = rs.getTimestamp(3);
+                stored.put(id, new StoredPost(counts, rs.getInt(2),
+                        createdAt == null ? LocalDateTime.now() : createdAt.toLocalDateTime(), rs.getDouble(4)));
+                ids.add(id);
+            }, lastId, chunkSize);
+            if (ids.isEmpty()) {
+                break;
+            }
+            long firstId = ids.get(0);
+            lastId = ids.get(ids.size() - 1);
+
+            Map<Long, int[]> actual = new HashMap<>();
+            jdbcTemplate.query(COUNT_SQL, rs -> {
+                PulseType type = PulseType.valueOf(rs.getString(2));
+                actual.computeIfAbsent(rs.getLong(1), id -> new int[PulseType.values().length])[type.ordinal()] =
+                        rs.getInt(3);
+            }, firstId, lastId);
+
+            for (Long id : ids) {
+                int[] expected = actual.getOrDefault(id, new int[PulseType.values().length]);
+                StoredPost current = stored.get(id);
+                for (PulseType type : PulseType.values()) {
+                    if (expected[type.ordinal()] != current.pulses()[type.ordinal()]) {
+                        jdbcTemplate.update(repairSql.get(type), id, type.name(), id);
+                        repaired++;
+                    }
+                }
+                double score = VibePost.hotScore(Arrays.stream(expected).sum(), current.remixes(), current.createdAt());
+                if (Math.abs(score - current.hotScore()) > SCORE_TOLERANCE) {
+                    rescored += jdbcTemplate.update(hotScoreSql, hotScoreArgs(score, id, current.remixes(), expected));
+                }
+            }
+            if (ids.size() < chunkSize) {
+                break;
+            }
+        }
+
+        if (repaired > 0) {
+            repairs.increment(repaired);
+            log.warn("Reconciled {} drifted pulse counters", repaired);
+        }
+        if (rescored > 0) {
+            scoreRepairs.increment(rescored);
+            log.info("Recomputed {} hot scores", rescored);
+        }
+        return repaired;
+    }
+
+    private static Object[] hotScoreArgs(double score, long id, int remixes, int[] pulses) {
+        Object[] args = new Object[3 + pulses.length];
+        args[0] = score;
+        args[1] = id;
+        args[2] = remixes;
+        for (int i = 0; i < pulses.length; i++) {
+            args[3 + i] = pulses[i];
+        }
+        return args;
+    }
+}
@@ -0,0 +1,105 @@
+package com.genz.translator.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Coalesces term popularity hits in memory and writes them back in batches.
+ * <p>
+ * Request threads only touch a striped {@link LongAdder} per term, so hot terms never contend on
+ * a row lock. A scheduled flush drains the counters and applies all deltas as one JDBC batch of
+ * relative {@code popularity_score + ?} updates, which cannot lose increments the way a
+ * read-modify-write of the entity did. Flush lag is bounded by the flush interval, and whatever
+ * is pending is drained on shutdown.
+ */
+@Component
+public class TermPopularityCounter {
+
+    private static final Logger log = LoggerFactory.getLogger(TermPopularityCounter.class);
+
+    private static final String INCREMENT_SQL =
+            "UPDATE terms SET popularity_score = COALESCE(popularity_score, 0) + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final Timer flushTimer;
+
+    public TermPopularityCounter(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.flushTimer = Timer.builder("translator.popularity.flush")
+                .description("Time to write one batch of popularity deltas")
+                .register(meterRegistry);
+        Gauge.builder("translator.popularity.pending", this, TermPopularityCounter::pendingHits)
+                .description("Popularity hits recorded but not yet flushed")
+                .register(meterRegistry);
+    }
+
+    public void record(Long termId) {
+        record(termId, 1);
+    }
+
+    public void record(Long termId, long hits) {
+        if (termId == null || hits <= 0) {
+            return;
+        }
+        pending.computeIfAbsent(termId, id -> new LongAdder()).add(hits);
+    }
+
+    public long pendingHits() {
+        return pending.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    @Scheduled(fixedDelayString = "${translator.popularity.flush-interval-ms:5000}")
+    public int flush() {
+        flushLock.lock();
+        try {
+            // Sorted by id so concurrent flushes from several nodes lock rows in the same order
+            Map<Long, Long> deltas = new TreeMap<>();
+            pending.forEach((termId, counter) -> {
+                long hits = counter.sumThenReset();
+                if (hits > 0) {
+                    deltas.put(termId, hits);
+                }
+            });
+            if (deltas.isEmpty()) {
+                return 0;
+            }
+
+            List<Object[]> batch = new ArrayList<>(deltas.size());
+            deltas.forEach((termId, hits) -> batch.add(new Object[]{hits, termId}));
+            try {
+                flushTimer.record(() -> jdbcTemplate.batchUpdate(INCREMENT_SQL, batch));
+            } catch (DataAccessException ex) {
+                // Put the deltas back so the next flush retries them
+                deltas.forEach(this::record);
+                log.warn("Failed to flush popularity for {} terms, will retry", deltas.size(), ex);
+                return 0;
+            }
+            return deltas.size();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void drain() {
+        flush();
+    }
+}
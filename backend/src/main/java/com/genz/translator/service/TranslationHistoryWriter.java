@@ -0,0 +1,291 @@
+package com.genz.translator.service;
+
+import com.genz.translator.model.TranslationHistory;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Write-behind queue for {@link TranslationHistory}.
+ * <p>
+ * Translations enqueue their history row and return immediately. A single background writer
+ * drains the queue and persists up to {@code flush-size} rows at a time, or whatever has queued
+ * after {@code flush-interval-ms}, as one transaction made of a JDBC batch insert into
+ * {@code translation_history} followed by one into {@code translation_history_terms}.
+ * <p>
+ * When the queue is full the configured {@link OverflowPolicy} decides what happens to new rows.
+ * History is best effort by design: it is never allowed to hold up a translation for longer than
+ * {@code block-timeout-ms}.
+ */
+@Component
+public class TranslationHistoryWriter {
+
+    public enum OverflowPolicy {
+        /** Reject new rows while the queue is full. */
+        DROP,
+        /** Wait up to {@code block-timeout-ms} for space, then drop. */
+        BLOCK,
+        /** Admit rows with a probability that falls linearly from 1 at half capacity to 0 at full. */
+        SAMPLE
+    }
+
+    private static final Logger log = LoggerFactory.getLogger(TranslationHistoryWriter.class);
+
+    private static final String INSERT_HISTORY_SQL =
+            "INSERT INTO translation_history (original_text, translated_text, created_at) VALUES (?, ?, ?)";
+    private static final String INSERT_TERM_SQL =
+            "INSERT INTO translation_history_terms (history_id, term) VALUES (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<TranslationHistory> queue;
+    private final int capacity;
+    private final int flushSize;
+    private final long flushIntervalMs;
+    private final long blockTimeoutMs;
+    private final OverflowPolicy overflowPolicy;
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final Timer writeTimer;
+
+    private volatile boolean running;
+    private volatile boolean writerBusy;
+    private Thread worker;
+
+    public TranslationHistoryWriter(JdbcTemplate jdbcTemplate,
+                                    TransactionTemplate transactionTemplate,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${translator.history.queue-capacity:10000}") int capacity,
+                                    @Value("${translator.history.flush-size:500}") int flushSize,
+                                    @Value("${translator.history.flush-interval-ms:1000}") long flushIntervalMs,
+                                    @Value("${translator.history.block-timeout-ms:50}") long blockTimeoutMs,
+                                    @Value("${translator.history.overflow-policy:DROP}") OverflowPolicy overflowPolicy) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.capacity = capacity;
+        this.flushSize = flushSize;
+        this.flushIntervalMs = flushIntervalMs;
+        this.blockTimeoutMs = blockTimeoutMs;
+        this.overflowPolicy = overflowPolicy;
+
+        Gauge.builder("translator.history.queue.depth", queue, BlockingQueue::size)
+                .description("History rows waiting to be written")
+                .register(meterRegistry);
+        Gauge.builder("translator.history.queue.capacity", queue, q -> capacity)
+                .register(meterRegistry);
+        rowCounter(meterRegistry, "written", written);
+        rowCounter(meterRegistry, "dropped", dropped);
+        rowCounter(meterRegistry, "failed", failed);
+        this.writeTimer = Timer.builder("translator.history.write")
+                .description("Time to persist one batch of history rows")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        worker = new Thread(this::drainLoop, "history-writer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * Queues a history row for persistence.
+     *
+     * @return false if the row was dropped by the overflow policy
+     */
+    public boolean submit(TranslationHistory history) {
+        boolean accepted;
+        try {
+            accepted = switch (overflowPolicy) {
+                case DROP -> queue.offer(history);
+                case BLOCK -> queue.offer(history, blockTimeoutMs, TimeUnit.MILLISECONDS);
+                case SAMPLE -> admitSample() && queue.offer(history);
+            };
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            accepted = false;
+        }
+        if (!accepted) {
+            dropped.increment();
+        }
+        return accepted;
+    }
+
+    public int submitAll(Collection<TranslationHistory> histories) {
+        int accepted = 0;
+        for (TranslationHistory history : histories) {
+            if (submit(history)) {
+                accepted++;
+            }
+        }
+        return accepted;
+    }
+
+    /**
+     * Synchronously writes everything currently queued and waits for the batch the background
+     * writer is holding, if any. Used on shutdown and by tests that need history to be visible.
+     */
+    public void flush() {
+        List<TranslationHistory> batch = new ArrayList<>(flushSize);
+        writeLock.lock();
+        try {
+            while (queue.drainTo(batch, flushSize) > 0) {
+                write(batch);
+                batch.clear();
+            }
+        } finally {
+            writeLock.unlock();
+        }
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMs * 2);
+        while (writerBusy && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (worker != null) {
+            worker.join(flushIntervalMs * 2);
+        }
+        flush();
+    }
+
+    private static void rowCounter(MeterRegistry meterRegistry, String outcome, LongAdder source) {
+        FunctionCounter.builder("translator.history.rows", source, LongAdder::sum)
+                .description("History rows by outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private boolean admitSample() {
+        int highWater = capacity / 2;
+        int depth = queue.size();
+        if (depth < highWater) {
+            return true;
+        }
+        double admitProbability = (double) (capacity - depth) / Math.max(1, capacity - highWater);
+        return ThreadLocalRandom.current().nextDouble() < admitProbability;
+    }
+
+    private void drainLoop() {
+        List<TranslationHistory> batch = new ArrayList<>(flushSize);
+        while (running) {
+            try {
+                TranslationHistory first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                writerBusy = true;
+                batch.add(first);
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+                while (batch.size() < flushSize) {
+                    queue.drainTo(batch, flushSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= flushSize || remaining <= 0 || !running) {
+                        break;
+                    }
+                    TranslationHistory next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                writeLock.lock();
+                try {
+                    write(batch);
+                } finally {
+                    writeLock.unlock();
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+                writerBusy = false;
+            }
+        }
+    }
+
+    private void write(List<TranslationHistory> batch) {
+        try {
+            writeTimer.record(() -> transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+                        insert(connection, batch);
+                        return null;
+                    })));
+            written.add(batch.size());
+        } catch (RuntimeException ex) {
+            failed.add(batch.size());
+            log.warn("Failed to persist {} translation history rows", batch.size(), ex);
+        }
+    }
+
+    private void insert(Connection connection, List<TranslationHistory> batch) throws SQLException {
+        long[] ids = new long[batch.size()];
+        try (PreparedStatement statement = connection.prepareStatement(INSERT_HISTORY_SQL, new String[]{"id"})) {
+            for (TranslationHistory history : batch) {
+                statement.setString(1, history.getOriginalText());
+                statement.setString(2, history.getTranslatedText());
+                statement.setTimestamp(3, Timestamp.valueOf(history.getCreatedAt()));
+                statement.addBatch();
+            }
+            statement.executeBatch();
+            try (ResultSet keys = statement.getGeneratedKeys()) {
+                int i = 0;
+                while (keys.next() && i < ids.length) {
+                    ids[i++] = keys.getLong(1);
+                }
+                if (i != ids.length) {
+                    throw new SQLException("Expected " + ids.length + " generated keys but got " + i);
+                }
+            }
+        }
+
+        try (PreparedStatement statement = connection.prepareStatement(INSERT_TERM_SQL)) {
+            boolean hasTerms = false;
+            for (int i = 0; i < batch.size(); i++) {
+                for (String term : batch.get(i).getTermsFound()) {
+                    statement.setLong(1, ids[i]);
+                    statement.setString(2, term);
+                    statement.addBatch();
+                    hasTerms = true;
+                }
+            }
+            if (hasTerms) {
+                statement.executeBatch();
+            }
+        }
+    }
+}
@@ -1,62 +1,189 @@
 package com.genz.translator.service;
 
+import com.genz.translator.dictionary.DictionaryEntry;
+import com.genz.translator.dictionary.DictionaryMatch;
+import com.genz.translator.dictionary.DictionaryRegistry;
+import com.genz.translator.dictionary.DictionarySnapshot;
+import com.genz.translator.dictionary.TermsChangedEvent;
+import com.genz.translator.dictionary.TranslationCache;
+import com.genz.translator.dto.BatchTranslationResponse;
+import com.genz.translator.dto.TranslationRequest;
 import com.genz.translator.dto.TranslationResponse;
 import com.genz.translator.model.Term;
 import com.genz.translator.model.TranslationHistory;
 import com.genz.translator.repository.TermRepository;
 import com.genz.translator.repository.TranslationHistoryRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
-
-import java.util.ArrayList;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
-import java.util.regex.Pattern;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 @Service
 public class TranslationService {
 
+    // Below this many texts a batch is cheaper to run on the calling thread
+    private static final int PARALLEL_BATCH_THRESHOLD = 64;
+
     @Autowired
     private TermRepository termRepository;
 
     @Autowired
     private TranslationHistoryRepository translationHistoryRepository;
 
+    @Autowired
+    private DictionaryRegistry dictionaryRegistry;
+
+    @Autowired
+    private TranslationCache translationCache;
+
+    @Autowired
+    private TermPopularityCounter popularityCounter;
+
+    @Autowired
+    private TranslationHistoryWriter historyWriter;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${translator.stream.max-line-length:1048576}")
+    private int maxStreamLineLength;
+
+    private DistributionSummary termsMatched;
+    private DistributionSummary batchSize;
+
+    @PostConstruct
+    void registerMetrics() {
+        termsMatched = DistributionSummary.builder("translator.translate.terms.matched")
+                .description("Dictionary terms matched per translated text")
+                .register(meterRegistry);
+        batchSize = DistributionSummary.builder("translator.translate.batch.size")
+                .description("Texts per batch translation request")
+                .register(meterRegistry);
+    }
+
     public TranslationResponse translateText(String originalText) {
-        String translatedText = originalText;
-        List<String> termsFound = new ArrayList<>();
-
-        // Get all terms from database
-        List<Term> allTerms = termRepository.findAll();
-
-        // Replace Gen Z terms with translations
-        for (Term term : allTerms) {
-            String genzText = term.getGenzText();
-            String translation = term.getTranslation();
-
-            // Create regex pattern for word boundaries
-            Pattern pattern = Pattern.compile("\\b" + Pattern.quote(genzText) + "\\b", Pattern.CASE_INSENSITIVE);
-            
-            if (pattern.matcher(translatedText).find()) {
-                translatedText = pattern.matcher(translatedText).replaceAll(translation);
-                termsFound.add(genzText);
-                
-                // Increase popularity score
-                term.setPopularityScore(term.getPopularityScore() + 1);
-                termRepository.save(term);
-            }
+        return translate(dictionaryRegistry.current(), originalText);
+    }
+
+    private TranslationResponse translate(DictionarySnapshot snapshot, String originalText) {
+        // Replace Gen Z terms with translations in a single pass
+        DictionaryMatch match = render(snapshot, originalText);
+        TranslationResponse response = toResponse(originalText, match);
+
+        termsMatched.record(match.getMatchedEntries().size());
+
+        // Increase popularity score, flushed to the database in the background
+        for (DictionaryEntry entry : match.getMatchedEntries()) {
+            popularityCounter.record(entry.getTermId());
         }
 
-        // Capitalize first letter
-        if (!translatedText.isEmpty()) {
-            translatedText = translatedText.substring(0, 1).toUpperCase() + 
-                           (translatedText.length() > 1 ? translatedText.substring(1) : "");
+        // Queue translation history, written behind in batches
+        historyWriter.submit(toHistory(response));
+
+        return response;
+    }
+
+    public BatchTranslationResponse translateBatch(List<String> texts) {
+        // Every item sees the same dictionary, even if a reload lands mid-batch
+        DictionarySnapshot snapshot = dictionaryRegistry.current();
+        DictionaryMatch[] matches = new DictionaryMatch[texts.size()];
+        TranslationResponse[] results = new TranslationResponse[texts.size()];
+
+        IntStream indexes = IntStream.range(0, texts.size());
+        if (texts.size() >= PARALLEL_BATCH_THRESHOLD) {
+            indexes = indexes.parallel();
+        }
+        indexes.forEach(i -> {
+            matches[i] = render(snapshot, texts.get(i));
+            results[i] = toResponse(texts.get(i), matches[i]);
+        });
+
+        // Side effects are aggregated once for the whole batch
+        Map<Long, Long> hits = new HashMap<>();
+        for (DictionaryMatch match : matches) {
+            termsMatched.record(match.getMatchedEntries().size());
+            for (DictionaryEntry entry : match.getMatchedEntries()) {
+                hits.merge(entry.getTermId(), 1L, Long::sum);
+            }
         }
+        hits.forEach(popularityCounter::record);
+
+        batchSize.record(texts.size());
 
-        // Save translation history
-        TranslationHistory history = new TranslationHistory(originalText, translatedText, termsFound);
-        translationHistoryRepository.save(history);
+        List<TranslationResponse> responses = Arrays.asList(results);
+        historyWriter.submitAll(responses.stream()
+                .map(this::toHistory)
+                .collect(Collectors.toList()));
 
-        return new TranslationResponse(originalText, translatedText, termsFound);
+        return new BatchTranslationResponse(responses, snapshot.getVersion());
+    }
+
+    /**
+     * Translates newline-delimited input line by line, writing one JSON result per line as soon as
+     * it is ready. Only the current line is ever held in memory. With {@code jsonLines} each line is
+     * a {@link TranslationRequest} object, otherwise it is the raw text. Every input line produces
+     * exactly one output line so callers can zip results back onto their input.
+     *
+     * @return the number of lines translated
+     */
+    public long translateStream(Reader input, Writer output, boolean jsonLines) throws IOException {
+        DictionarySnapshot snapshot = dictionaryRegistry.current();
+        ObjectWriter resultWriter = objectMapper.writerFor(TranslationResponse.class)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        BoundedLineReader lines = new BoundedLineReader(input, maxStreamLineLength);
+
+        long count = 0;
+        String line;
+        while ((line = lines.readLine()) != null) {
+            TranslationResponse result;
+            if (lines.lastLineTruncated()) {
+                result = failedLine(null);
+            } else {
+                String text = jsonLines ? readStreamText(line) : line;
+                if (text == null) {
+                    result = failedLine(line);
+                } else if (!StringUtils.hasText(text)) {
+                    result = new TranslationResponse(text, text, List.of());
+                } else {
+                    result = translate(snapshot, text);
+                }
+            }
+            resultWriter.writeValue(output, result);
+            output.write('\n');
+            count++;
+
+            // Hand results back as soon as the client has paused sending
+            if (!lines.hasBufferedInput()) {
+                output.flush();
+            }
+        }
+        output.flush();
+        return count;
     }
 
     public List<Term> getAllTerms() {
@@ -67,8 +194,12 @@ public class TranslationService {
         return termRepository.findAllByPopularityDesc();
     }
 
+    @Transactional
     public Term addTerm(Term term) {
-        return termRepository.save(term);
+        Term saved = termRepository.save(term);
+        // Rebuild the dictionary once this transaction commits
+        eventPublisher.publishEvent(new TermsChangedEvent(saved.getId()));
+        return saved;
     }
 
     public List<TranslationHistory> getRecentTranslations(int limit) {
@@ -78,4 +209,44 @@ public class TranslationService {
     public List<Term> searchTerms(String query) {
         return termRepository.findBySearchTerm(query);
     }
-}
\ No newline at end of file
+
+    private DictionaryMatch render(DictionarySnapshot snapshot, String originalText) {
+        return translationCache.get(snapshot, originalText, text -> {
+            DictionaryMatch match = snapshot.translate(text);
+            return new DictionaryMatch(capitalize(match.getTranslatedText()), match.getMatchedEntries());
+        });
+    }
+
+    private TranslationResponse toResponse(String originalText, DictionaryMatch match) {
+        return new TranslationResponse(originalText, match.getTranslatedText(), match.getTermsFound());
+    }
+
+    private TranslationHistory toHistory(TranslationResponse response) {
+        return new TranslationHistory(response.getOriginalText(), response.getTranslatedText(), response.getTermsFound());
+    }
+
+    private String readStreamText(String line) {
+        if (!StringUtils.hasText(line)) {
+            return line;
+        }
+        try {
+            return objectMapper.readValue(line, TranslationRequest.class).getText();
+        } catch (JsonProcessingException ex) {
+            return null;
+        }
+    }
+
+    private static TranslationResponse failedLine(String line) {
+        TranslationResponse response = new TranslationResponse(line, null, List.of());
+        response.setSuccess(false);
+        return response;
+    }
+
+    // Capitalize first letter
+    private static String capitalize(String text) {
+        if (text.isEmpty() || Character.isUpperCase(text.charAt(0))) {
+            return text;
+        }
+        return Character.toUpperCase(text.charAt(0)) + text.substring(1);
+    }
+}
@@ -0,0 +1,28 @@
+package com.genz.translator.service;
+
+import com.genz.translator.dto.community.VibeResponse;
+
+/**
+ * Published by {@link CommunityService} whenever a vibe is created or its pulse or remix counts
+ * move, carrying the post as it was rendered for the caller. Listeners that act on it outside the
+ * transaction should use {@code @TransactionalEventListener} so they only see committed changes.
+ */
+public class VibeChangedEvent {
+
+    public enum Kind {
+        CREATED,
+        PULSED,
+        REMIXED
+    }
+
+    private final Kind kind;
+    private final VibeResponse vibe;
+
+    public VibeChangedEvent(Kind kind, VibeResponse vibe) {
+        this.kind = kind;
+        this.vibe = vibe;
+    }
+
+    public Kind getKind() { return kind; }
+    public VibeResponse getVibe() { return vibe; }
+}
@@ -0,0 +1,33 @@
+package com.genz.translator.concurrent;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void allowsABurstThenRefillsAtTheConfiguredRate() {
+        long now = 1_000 * SECOND;
+        TokenBucket bucket = new TokenBucket(3, 2, now);
+
+        assertThat(bucket.tryAcquire(now)).isZero();
+        assertThat(bucket.tryAcquire(now)).isZero();
+        assertThat(bucket.tryAcquire(now)).isZero();
+        assertThat(bucket.tryAcquire(now)).isEqualTo(SECOND / 2);
+
+        assertThat(bucket.tryAcquire(now + SECOND / 2)).isZero();
+        assertThat(bucket.tryAcquire(now + SECOND / 2)).isPositive();
+
+        // Idle time refills the bucket but never beyond its capacity
+        long later = now + 60 * SECOND;
+        for (int i = 0; i < 3; i++) {
+            assertThat(bucket.tryAcquire(later)).isZero();
+        }
+        assertThat(bucket.tryAcquire(later)).isPositive();
+    }
+}
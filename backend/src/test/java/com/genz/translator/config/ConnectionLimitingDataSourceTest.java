@@ -0,0 +1,77 @@
+package com.genz.translator.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ConnectionLimitingDataSourceTest {
+
+    private static JdbcDataSource h2() {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:limiter;DB_CLOSE_DELAY=-1");
+        return dataSource;
+    }
+
+    @Test
+    void timesOutWhenEveryPermitIsHeld() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ConnectionLimitingDataSource dataSource = new ConnectionLimitingDataSource(h2(), 1, 50, registry);
+
+        Connection first = dataSource.getConnection();
+        assertThat(registry.get("translator.db.permits.in-use").gauge().value()).isEqualTo(1);
+
+        assertThatThrownBy(dataSource::getConnection).isInstanceOf(SQLTransientConnectionException.class);
+        assertThat(registry.get("translator.db.permit.timeouts").counter().count()).isEqualTo(1);
+
+        first.close();
+        assertThat(registry.get("translator.db.permits.in-use").gauge().value()).isZero();
+        try (Connection again = dataSource.getConnection(); ResultSet rs = again.createStatement().executeQuery("SELECT 1")) {
+            assertThat(rs.next()).isTrue();
+        }
+    }
+
+    @Test
+    void waiterGetsTheConnectionAsSoonAsOneIsClosed() throws Exception {
+        ConnectionLimitingDataSource dataSource = new ConnectionLimitingDataSource(h2(), 1, 5000, new SimpleMeterRegistry());
+
+        Connection first = dataSource.getConnection();
+        CompletableFuture<Connection> waiting = CompletableFuture.supplyAsync(() -> {
+            try {
+                return dataSource.getConnection();
+            } catch (Exception ex) {
+                throw new IllegalStateException(ex);
+            }
+        });
+        Thread.sleep(100);
+        assertThat(waiting).isNotDone();
+
+        first.close();
+        waiting.get(5, TimeUnit.SECONDS).close();
+    }
+
+    @Test
+    void releasesThePermitOnlyOnceWhenClosedTwice() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ConnectionLimitingDataSource dataSource = new ConnectionLimitingDataSource(h2(), 2, 50, registry);
+
+        Connection connection = dataSource.getConnection();
+        Connection other = dataSource.getConnection();
+        connection.close();
+        connection.close();
+
+        assertThat(registry.get("translator.db.permits.in-use").gauge().value()).isEqualTo(1);
+        assertThat(connection.isClosed()).isTrue();
+        assertThat(((ConnectionProxy) other).getTargetConnection()).isNotInstanceOf(ConnectionProxy.class);
+        other.close();
+    }
+}
@@ -0,0 +1,36 @@
+package com.genz.translator.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalManagementPort;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "management.server.port=0",
+        "management.endpoints.web.exposure.include=health,prometheus"
+})
+@AutoConfigureObservability
+class ManagementPortTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @LocalManagementPort
+    private int managementPort;
+
+    @Test
+    void servesMetricsOnlyOnTheManagementPort() {
+        assertThat(restTemplate.getForEntity("/actuator/prometheus", String.class).getStatusCode().is2xxSuccessful()).isFalse();
+        assertThat(restTemplate.getForEntity("/api/health", String.class).getStatusCode().is2xxSuccessful()).isTrue();
+
+        String management = "http://localhost:" + managementPort;
+        assertThat(restTemplate.getForEntity(management + "/actuator/prometheus", String.class).getBody())
+                .contains("translator_");
+        assertThat(restTemplate.getForEntity(management + "/actuator/health", String.class).getStatusCode().is2xxSuccessful())
+                .isTrue();
+    }
+}
@@ -0,0 +1,43 @@
+package com.genz.translator.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:translator_prod;MODE=PostgreSQL;DB_CLOSE_DELAY=-1")
+@ActiveProfiles("prod")
+class ProductionProfileTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void appliesPoolDriverAndBatchingSettings() {
+        HikariDataSource hikari = (HikariDataSource) dataSource;
+        assertThat(hikari.getPoolName()).isEqualTo("translator-db");
+        assertThat(hikari.getMaximumPoolSize()).isEqualTo(10);
+        assertThat(hikari.getMinimumIdle()).isEqualTo(10);
+        assertThat(hikari.getConnectionTimeout()).isEqualTo(5000);
+        assertThat(hikari.getDataSourceProperties())
+                .containsEntry("prepareThreshold", "1")
+                .containsEntry("reWriteBatchedInserts", "true");
+
+        Map<String, Object> hibernate = entityManagerFactory.getProperties();
+        assertThat(hibernate)
+                .containsEntry("hibernate.jdbc.batch_size", "50")
+                .containsEntry("hibernate.order_inserts", "true")
+                .containsEntry("hibernate.order_updates", "true")
+                .containsEntry("hibernate.format_sql", "false");
+    }
+}
@@ -0,0 +1,72 @@
+package com.genz.translator.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLTransientConnectionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class VirtualThreadConfigTest {
+
+    @Test
+    void limitsHikariToItsPoolSizeAndReleasesPermitsOnClose() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        DefaultListableBeanFactory beans = new DefaultListableBeanFactory();
+        beans.registerSingleton("meterRegistry", registry);
+        HikariDataSource hikari = new HikariDataSource();
+        hikari.setJdbcUrl("jdbc:h2:mem:virtual-threads;DB_CLOSE_DELAY=-1");
+        hikari.setMaximumPoolSize(2);
+
+        try (hikari) {
+            Object wrapped = VirtualThreadConfig
+                    .connectionLimitingDataSourcePostProcessor(beans.getBeanProvider(MeterRegistry.class), 50)
+                    .postProcessAfterInitialization(hikari, "dataSource");
+            assertThat(wrapped).isInstanceOf(ConnectionLimitingDataSource.class);
+            DataSource dataSource = (DataSource) wrapped;
+
+            Connection first = dataSource.getConnection();
+            try (Connection second = dataSource.getConnection()) {
+                assertThat(permitsInUse(registry)).isEqualTo(2);
+                assertThatThrownBy(dataSource::getConnection).isInstanceOf(SQLTransientConnectionException.class);
+            }
+            assertThat(permitsInUse(registry)).isEqualTo(1);
+
+            first.close();
+            assertThat(permitsInUse(registry)).isZero();
+            assertThat(hikari.getHikariPoolMXBean().getActiveConnections()).isZero();
+        }
+    }
+
+    @Test
+    @EnabledForJreRange(max = JRE.JAVA_20)
+    void refusesVirtualThreadsOnOlderJvms() {
+        new ApplicationContextRunner()
+                .withUserConfiguration(VirtualThreadConfig.class)
+                .withPropertyValues("spring.threads.virtual.enabled=true")
+                .run(context -> assertThat(context).hasFailed()
+                        .getFailure().hasMessageContaining("needs Java 21"));
+    }
+
+    @Test
+    void staysOutOfTheWayOnPlatformThreads() {
+        new ApplicationContextRunner()
+                .withUserConfiguration(VirtualThreadConfig.class)
+                .withPropertyValues("spring.threads.virtual.enabled=false")
+                .run(context -> assertThat(context).hasNotFailed()
+                        .doesNotHaveBean("connectionLimitingDataSourcePostProcessor"));
+    }
+
+    private static double permitsInUse(MeterRegistry registry) {
+        return registry.get("translator.db.permits.in-use").gauge().value();
+    }
+}
@@ -0,0 +1,113 @@
+package com.genz.translator.dictionary;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TermAutomatonTest {
+
+    private final TermAutomaton automaton = TermAutomaton.compile(List.of(
+            new DictionaryEntry(1L, "cap", "lie"),
+            new DictionaryEntry(2L, "no cap", "no lie"),
+            new DictionaryEntry(3L, "fr", "for real"),
+            new DictionaryEntry(4L, "fr fr", "for real for real"),
+            new DictionaryEntry(5L, "ngl", "not going to lie"),
+            new DictionaryEntry(6L, "bussin", "really good (usually food)")
+    ));
+
+    @Test
+    void prefersLongestMatch() {
+        DictionaryMatch match = automaton.translate("no cap this is bussin fr fr");
+
+        assertThat(match.getTranslatedText()).isEqualTo("no lie this is really good (usually food) for real for real");
+        assertThat(match.getTermsFound()).containsExactly("no cap", "bussin", "fr fr");
+    }
+
+    @Test
+    void matchesCaseInsensitivelyOnWordBoundaries() {
+        DictionaryMatch match = automaton.translate("NGL the captain said Fr, frfr");
+
+        assertThat(match.getTranslatedText()).isEqualTo("not going to lie the captain said for real, frfr");
+        assertThat(match.getTermsFound()).containsExactly("ngl", "fr");
+    }
+
+    @Test
+    void reportsEachTermOnceAndLeavesPlainTextUntouched() {
+        assertThat(automaton.translate("cap cap cap").getTermsFound()).containsExactly("cap");
+
+        DictionaryMatch plain = automaton.translate("nothing to see here");
+        assertThat(plain.getTranslatedText()).isEqualTo("nothing to see here");
+        assertThat(plain.getMatchedEntries()).isEmpty();
+    }
+
+    @Test
+    void keepsAMatchThatEndsWhileALongerTermIsStillOpen() {
+        TermAutomaton overlapping = TermAutomaton.compile(List.of(
+                new DictionaryEntry(1L, "ab", "1"),
+                new DictionaryEntry(2L, "cd", "2"),
+                new DictionaryEntry(3L, "abcdx", "3"),
+                new DictionaryEntry(4L, "b c", "4")
+        ));
+
+        assertThat(overlapping.translate("ab cd").getTranslatedText()).isEqualTo("1 2");
+        assertThat(overlapping.translate("ab cdx ab c").getTranslatedText()).isEqualTo("1 cdx 1 c");
+    }
+
+    @Test
+    void agreesWithLongestMatchAtEachLeftmostStart() {
+        List<DictionaryEntry> dictionary = List.of(
+                new DictionaryEntry(1L, "a", "<1>"),
+                new DictionaryEntry(2L, "ab", "<2>"),
+                new DictionaryEntry(3L, "b a", "<3>"),
+                new DictionaryEntry(4L, "a b a b", "<4>"),
+                new DictionaryEntry(5L, "ba-", "<5>"),
+                new DictionaryEntry(6L, "-", "<6>"),
+                new DictionaryEntry(7L, "bbb", "<7>")
+        );
+        TermAutomaton automaton = TermAutomaton.compile(dictionary);
+        Random random = new Random(42);
+        char[] alphabet = {'a', 'b', 'A', ' ', '-'};
+        for (int run = 0; run < 2000; run++) {
+            char[] text = new char[random.nextInt(24)];
+            for (int i = 0; i < text.length; i++) {
+                text[i] = alphabet[random.nextInt(alphabet.length)];
+            }
+            String input = new String(text);
+            assertThat(automaton.translate(input).getTranslatedText()).as(input)
+                    .isEqualTo(translateGreedily(dictionary, input));
+        }
+    }
+
+    // Tries every term at every position: the longest delimited one at the leftmost start wins
+    private static String translateGreedily(List<DictionaryEntry> dictionary, String text) {
+        StringBuilder translated = new StringBuilder();
+        int position = 0;
+        while (position < text.length()) {
+            DictionaryEntry best = null;
+            for (DictionaryEntry entry : dictionary) {
+                String term = entry.getGenzText();
+                int end = position + term.length();
+                if (text.regionMatches(true, position, term, 0, term.length())
+                        && (best == null || term.length() > best.getGenzText().length())
+                        && !(isWordChar(term.charAt(0)) && position > 0 && isWordChar(text.charAt(position - 1)))
+                        && !(isWordChar(term.charAt(term.length() - 1)) && end < text.length() && isWordChar(text.charAt(end)))) {
+                    best = entry;
+                }
+            }
+            if (best == null) {
+                translated.append(text.charAt(position++));
+            } else {
+                translated.append(best.getTranslation());
+                position += best.getGenzText().length();
+            }
+        }
+        return translated.toString();
+    }
+
+    private static boolean isWordChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '_';
+    }
+}
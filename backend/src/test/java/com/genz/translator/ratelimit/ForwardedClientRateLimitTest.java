@@ -0,0 +1,43 @@
+package com.genz.translator.ratelimit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "server.forward-headers-strategy=native",
+        "server.tomcat.remoteip.internal-proxies=127\\.0\\.0\\.1|0:0:0:0:0:0:0:1|::1",
+        "translator.rate-limit.policies[0].name=auth",
+        "translator.rate-limit.policies[0].paths=/api/auth/login",
+        "translator.rate-limit.policies[0].capacity=2",
+        "translator.rate-limit.policies[0].refill-per-second=0.001"
+})
+class ForwardedClientRateLimitTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Test
+    void clientsBehindTheSameProxyGetSeparateBuckets() {
+        assertThat(login("203.0.113.7")).isNotEqualTo(429);
+        assertThat(login("203.0.113.7")).isNotEqualTo(429);
+        assertThat(login("203.0.113.7")).isEqualTo(429);
+
+        assertThat(login("203.0.113.8")).isNotEqualTo(429);
+    }
+
+    private int login(String forwardedFor) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.set("X-Forwarded-For", forwardedFor);
+        return restTemplate.postForEntity("/api/auth/login",
+                new HttpEntity<>("{\"email\":\"nobody@genz.com\",\"password\":\"password123\"}", headers), String.class)
+                .getStatusCode().value();
+    }
+}
@@ -0,0 +1,91 @@
+package com.genz.translator.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.Filter;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitFilterTest {
+
+    @Test
+    void limitsEachClientSeparatelyAndOnlyOnMatchingRoutes() throws Exception {
+        RateLimitFilter filter = new RateLimitFilter(properties(), new SimpleMeterRegistry());
+
+        assertThat(call(filter, "/api/auth/login", "10.0.0.1").getStatus()).isEqualTo(200);
+        assertThat(call(filter, "/api/auth/login", "10.0.0.1").getStatus()).isEqualTo(200);
+        MockHttpServletResponse limited = call(filter, "/api/auth/login", "10.0.0.1");
+        assertThat(limited.getStatus()).isEqualTo(429);
+        assertThat(Long.parseLong(limited.getHeader("Retry-After"))).isPositive();
+
+        assertThat(call(filter, "/api/auth/login", "10.0.0.2").getStatus()).isEqualTo(200);
+        assertThat(call(filter, "/api/profiles/me", "10.0.0.1").getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void shedsRequestsBeyondTheConcurrencyLimit() throws Exception {
+        RateLimitProperties properties = properties();
+        properties.setMaxConcurrentRequests(1);
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(properties, new SimpleMeterRegistry());
+
+        CountDownLatch inside = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<?> slow = executor.submit(() -> {
+            filter.doFilter(request("/api/translate", "10.0.0.1"), new MockHttpServletResponse(), (req, res) -> {
+                inside.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            return null;
+        });
+        assertThat(inside.await(5, TimeUnit.SECONDS)).isTrue();
+
+        MockHttpServletResponse shed = call(filter, "/api/translate", "10.0.0.2");
+        assertThat(shed.getStatus()).isEqualTo(503);
+        assertThat(shed.getHeader("Retry-After")).isEqualTo("1");
+        assertThat(call(filter, "/actuator/health", "10.0.0.2").getStatus()).isEqualTo(200);
+        assertThat(call(filter, "/api/health", "10.0.0.2").getStatus()).isEqualTo(200);
+
+        release.countDown();
+        slow.get(5, TimeUnit.SECONDS);
+        executor.shutdown();
+        assertThat(call(filter, "/api/translate", "10.0.0.2").getStatus()).isEqualTo(200);
+    }
+
+    private static RateLimitProperties properties() {
+        RateLimitProperties.Policy auth = new RateLimitProperties.Policy();
+        auth.setName("auth");
+        auth.setPaths(List.of("/api/auth/login"));
+        auth.setCapacity(2);
+        auth.setRefillPerSecond(0.001);
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setPolicies(List.of(auth));
+        return properties;
+    }
+
+    private static MockHttpServletResponse call(Filter filter, String path, String remoteAddr) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request(path, remoteAddr), response, new MockFilterChain());
+        return response;
+    }
+
+    private static MockHttpServletRequest request(String path, String remoteAddr) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", path);
+        request.setRemoteAddr(remoteAddr);
+        return request;
+    }
+}
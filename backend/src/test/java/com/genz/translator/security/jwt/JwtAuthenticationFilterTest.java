@@ -0,0 +1,107 @@
+package com.genz.translator.security.jwt;
+
+import com.genz.translator.dto.auth.RegisterRequest;
+import com.genz.translator.service.AuthService;
+import com.jayway.jsonpath.JsonPath;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class JwtAuthenticationFilterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void authenticatesRepeatRequestsWithoutQueryingAndSeesProfileChanges() throws Exception {
+        long n = System.nanoTime();
+        RegisterRequest request = new RegisterRequest();
+        request.setEmail("filter" + n + "@genz.com");
+        request.setHandle("filter" + n % 1_000_000);
+        request.setPassword("password123");
+        String bearer = "Bearer " + authService.register(request).getAccessToken();
+
+        mockMvc.perform(get("/api/profiles/me").header("Authorization", bearer))
+                .andExpect(status().isOk());
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        mockMvc.perform(get("/api/profiles/me").header("Authorization", bearer))
+                .andExpect(status().isOk());
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+
+        mockMvc.perform(put("/api/profiles/me")
+                        .header("Authorization", bearer)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"bio\":\"cache busted\"}"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/profiles/me").header("Authorization", bearer))
+                .andExpect(jsonPath("$.bio").value("cache busted"));
+    }
+
+    @Test
+    void opensTheLiveFeedWithAStreamTokenOnly() throws Exception {
+        long n = System.nanoTime();
+        RegisterRequest request = new RegisterRequest();
+        request.setEmail("stream" + n + "@genz.com");
+        request.setHandle("stream" + n % 1_000_000);
+        request.setPassword("password123");
+        String accessToken = authService.register(request).getAccessToken();
+
+        String body = mockMvc.perform(post("/api/community/vibes/live/token").header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        String streamToken = JsonPath.read(body, "$.token");
+
+        MvcResult stream = mockMvc.perform(get("/api/community/vibes/live").param("access_token", streamToken))
+                .andExpect(request().asyncStarted())
+                .andExpect(header().string("X-Accel-Buffering", "no"))
+                .andReturn();
+        stream.getRequest().getAsyncContext().complete();
+
+        mockMvc.perform(get("/api/profiles/me").header("Authorization", "Bearer " + streamToken))
+                .andExpect(status().is4xxClientError());
+        mockMvc.perform(get("/api/community/vibes/live").param("access_token", accessToken))
+                .andExpect(status().is4xxClientError());
+    }
+
+    @Test
+    void rejectsForgedTokens() throws Exception {
+        mockMvc.perform(get("/api/profiles/me").header("Authorization", "Bearer not.a.token"))
+                .andExpect(status().is4xxClientError());
+    }
+
+    @Test
+    void treatsEmptyTokensAsAnonymous() throws Exception {
+        mockMvc.perform(get("/api/health").header("Authorization", "Bearer "))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/profiles/me").header("Authorization", "Bearer  "))
+                .andExpect(status().is4xxClientError());
+        mockMvc.perform(get("/api/community/vibes/live").param("access_token", ""))
+                .andExpect(status().is4xxClientError());
+    }
+}
@@ -1,5 +1,7 @@
 package com.genz.translator.security.jwt;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -9,6 +11,7 @@ import org.springframework.security.core.userdetails.UserDetails;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @SpringBootTest
 class JwtServiceTest {
@@ -28,4 +31,21 @@ class JwtServiceTest {
         assertThat(jwtService.extractUsername(token)).isEqualTo("tester@genz.com");
         assertThat(jwtService.isTokenValid(token, user)).isTrue();
     }
+
+    @Test
+    void verifiesEachTokenOnceAndRejectsTamperedOnes() {
+        UserDetails user = User.withUsername("cache@genz.com")
+                .password("password")
+                .roles("USER")
+                .build();
+        String token = jwtService.generateAccessToken(user, Map.of());
+
+        Claims claims = jwtService.verify(token);
+        assertThat(jwtService.verify(token)).isSameAs(claims);
+        assertThat(jwtService.isTokenValid(claims, user)).isTrue();
+
+        String[] parts = token.split("\\.");
+        String forged = parts[0] + "." + parts[1] + "." + new StringBuilder(parts[2]).reverse();
+        assertThatThrownBy(() -> jwtService.verify(forged)).isInstanceOf(JwtException.class);
+    }
 }
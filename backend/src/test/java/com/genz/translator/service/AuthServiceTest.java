@@ -0,0 +1,79 @@
+package com.genz.translator.service;
+
+import com.genz.translator.dto.auth.LoginRequest;
+import com.genz.translator.dto.auth.RegisterRequest;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+@SpringBootTest
+class AuthServiceTest {
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @SpyBean
+    private PasswordEncoder passwordEncoder;
+
+    @Test
+    void hashesThePasswordBeforeOpeningTheTransaction() {
+        AtomicBoolean inTransaction = new AtomicBoolean(true);
+        doAnswer(invocation -> {
+            inTransaction.set(TransactionSynchronizationManager.isActualTransactionActive());
+            return invocation.callRealMethod();
+        }).when(passwordEncoder).encode(any());
+
+        assertThat(authService.register(newUser("hash")).getAccessToken()).isNotBlank();
+        assertThat(inTransaction).isFalse();
+    }
+
+    @Test
+    void timesEachOperationByOutcome() {
+        Timer registered = authTimer("register", "success");
+        Timer failedLogins = authTimer("login", "failure");
+        long registeredBefore = registered.count();
+        long failedLoginsBefore = failedLogins.count();
+
+        RegisterRequest request = newUser("timed");
+        authService.register(request);
+        LoginRequest login = new LoginRequest();
+        login.setEmail(request.getEmail());
+        login.setPassword("wrong-password");
+        assertThatThrownBy(() -> authService.login(login)).isInstanceOf(AuthenticationException.class);
+
+        assertThat(registered.count()).isEqualTo(registeredBefore + 1);
+        assertThat(failedLogins.count()).isEqualTo(failedLoginsBefore + 1);
+    }
+
+    private Timer authTimer(String operation, String outcome) {
+        return meterRegistry.get("translator.auth.duration")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .timer();
+    }
+
+    private static RegisterRequest newUser(String prefix) {
+        long n = System.nanoTime();
+        RegisterRequest request = new RegisterRequest();
+        request.setEmail(prefix + n + "@genz.com");
+        request.setHandle(prefix + n % 1_000_000);
+        request.setPassword("password123");
+        return request;
+    }
+}
@@ -0,0 +1,328 @@
+package com.genz.translator.service;
+
+import com.genz.translator.dto.community.CursorPage;
+import com.genz.translator.dto.community.FeedSort;
+import com.genz.translator.dto.community.RemixRequest;
+import com.genz.translator.dto.community.RemixResponse;
+import com.genz.translator.dto.community.VibeRequest;
+import com.genz.translator.dto.community.VibeResponse;
+import com.genz.translator.model.UserAccount;
+import com.genz.translator.model.community.PulseType;
+import com.genz.translator.model.community.VibePost;
+import com.genz.translator.model.community.VibeVisibility;
+import com.genz.translator.repository.UserAccountRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+@SpringBootTest
+class CommunityServiceTest {
+
+    private static final AtomicInteger USERS = new AtomicInteger();
+
+    @Autowired
+    private CommunityService communityService;
+
+    @Autowired
+    private UserAccountRepository userAccountRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PulseCounterReconciler pulseCounterReconciler;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void signOut() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void filtersFeedInTheDatabaseNewestFirst() {
+        String persona = "Feed Tester " + USERS.incrementAndGet();
+        String tag = "feedtag" + System.nanoTime();
+        signIn(persona);
+
+        VibeResponse first = share("first", VibeVisibility.PUBLIC, tag.toUpperCase());
+        VibeResponse hidden = share("hidden", VibeVisibility.PRIVATE, tag);
+        VibeResponse second = share("second", VibeVisibility.PUBLIC, tag, "extra");
+
+        assertThat(feed(null, tag, null))
+                .containsExactly(second.getId(), hidden.getId(), first.getId());
+        assertThat(feed(persona.toLowerCase(), tag, VibeVisibility.PUBLIC))
+                .containsExactly(second.getId(), first.getId());
+        assertThat(feed("someone else", tag, null)).isEmpty();
+    }
+
+    @Test
+    void pagesThroughFeedWithCursor() {
+        String tag = "pagetag" + System.nanoTime();
+        signIn("Page Tester");
+        for (int i = 0; i < 55; i++) {
+            share("post " + i, VibeVisibility.PUBLIC, tag);
+        }
+
+        CursorPage<VibeResponse> first = communityService.getFeed(null, tag, null, null, null, null);
+        assertThat(first.getItems()).hasSize(50);
+        assertThat(first.getItems().get(0).getOriginalText()).isEqualTo("post 54");
+        assertThat(first.getNextCursor()).isNotNull();
+
+        List<Long> seen = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorPage<VibeResponse> page = communityService.getFeed(null, tag, null, null, cursor, 20);
+            seen.addAll(ids(page.getItems()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        assertThat(seen).hasSize(55).doesNotHaveDuplicates();
+        assertThat(seen).isSortedAccordingTo(Comparator.reverseOrder());
+    }
+
+    @Test
+    void rendersFeedWithConstantStatementCount() {
+        String smallTag = "smalltag" + System.nanoTime();
+        String largeTag = "largetag" + System.nanoTime();
+        signIn("Statement Counter");
+        for (int i = 0; i < 50; i++) {
+            VibeResponse vibe = share("post " + i, VibeVisibility.PUBLIC, i < 5 ? smallTag : largeTag, "common");
+            communityService.pulse(vibe.getId(), PulseType.values()[i % PulseType.values().length]);
+        }
+
+        long smallPage = statementsFor(() -> communityService.getFeed(null, smallTag, null, null, null, null));
+        long largePage = statementsFor(() -> communityService.getFeed(null, largeTag, null, null, null, null));
+
+        assertThat(smallPage).isEqualTo(2);
+        assertThat(largePage).isEqualTo(smallPage);
+        assertThat(communityService.getFeed(null, largeTag, null, null, null, null).getItems())
+                .allSatisfy(vibe -> {
+                    assertThat(vibe.getHandle()).startsWith("community");
+                    assertThat(vibe.getTags()).containsExactlyInAnyOrder(largeTag, "common");
+                    assertThat(vibe.getPulses().values()).containsExactly(1L);
+                });
+    }
+
+    @Test
+    void keepsPulseCountersInStepWithToggles() {
+        signIn("Pulse Counter");
+        VibeResponse vibe = share("pulse me", VibeVisibility.PUBLIC);
+
+        assertThat(communityService.pulse(vibe.getId(), PulseType.HYPE).getPulses()).containsEntry("HYPE", 1L);
+        signIn("Second Pulser");
+        assertThat(communityService.pulse(vibe.getId(), PulseType.HYPE).getPulses()).containsEntry("HYPE", 2L);
+        assertThat(communityService.pulse(vibe.getId(), PulseType.CHILL).getPulses())
+                .containsEntry("HYPE", 2L)
+                .containsEntry("CHILL", 1L);
+        assertThat(communityService.pulse(vibe.getId(), PulseType.HYPE).getPulses())
+                .containsEntry("HYPE", 1L)
+                .containsEntry("CHILL", 1L);
+    }
+
+    @Test
+    void reconciliationRepairsDriftedCounters() {
+        signIn("Drift Tester");
+        VibeResponse vibe = share("drifty", VibeVisibility.PUBLIC);
+        communityService.pulse(vibe.getId(), PulseType.SAGE);
+        jdbcTemplate.update("UPDATE vibe_posts SET pulse_sage = 7, pulse_cosmic = 3 WHERE id = ?", vibe.getId());
+
+        assertThat(pulseCounterReconciler.reconcile()).isGreaterThanOrEqualTo(2);
+
+        assertThat(jdbcTemplate.queryForMap("SELECT pulse_sage, pulse_cosmic FROM vibe_posts WHERE id = ?", vibe.getId()))
+                .containsEntry("PULSE_SAGE", 1)
+                .containsEntry("PULSE_COSMIC", 0);
+    }
+
+    @Test
+    void reconciliationRescoresFromRepairedCounters() {
+        signIn("Score Tester");
+        VibeResponse vibe = share("scored", VibeVisibility.PUBLIC);
+        communityService.pulse(vibe.getId(), PulseType.HYPE);
+        jdbcTemplate.update("UPDATE vibe_posts SET pulse_hype = 40, hot_score = 0 WHERE id = ?", vibe.getId());
+
+        pulseCounterReconciler.reconcile();
+
+        LocalDateTime createdAt = jdbcTemplate.queryForObject(
+                "SELECT created_at FROM vibe_posts WHERE id = ?", LocalDateTime.class, vibe.getId());
+        assertThat(jdbcTemplate.queryForObject("SELECT hot_score FROM vibe_posts WHERE id = ?", Double.class, vibe.getId()))
+                .isCloseTo(VibePost.hotScore(1, 0, createdAt), within(1e-9));
+    }
+
+    @Test
+    void countsConcurrentRemixesWithoutLosingIncrements() throws Exception {
+        signIn("Remix Tester");
+        VibeResponse vibe = share("remix me", VibeVisibility.PUBLIC);
+        var authentication = SecurityContextHolder.getContext().getAuthentication();
+        LocalDateTime updatedAt = jdbcTemplate.queryForObject(
+                "SELECT updated_at FROM vibe_posts WHERE id = ?", LocalDateTime.class, vibe.getId());
+
+        int threads = 8;
+        int remixesPerThread = 20;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+                start.await();
+                for (int i = 0; i < remixesPerThread; i++) {
+                    RemixRequest request = new RemixRequest();
+                    request.setRemixText("remix " + i);
+                    communityService.remix(vibe.getId(), request);
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT remix_count FROM vibe_posts WHERE id = ?", Integer.class, vibe.getId()))
+                .isEqualTo(threads * remixesPerThread);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT updated_at FROM vibe_posts WHERE id = ?", LocalDateTime.class, vibe.getId()))
+                .isEqualTo(updatedAt);
+    }
+
+    @Test
+    void ranksHotFeedByEngagement() {
+        String tag = "hottag" + System.nanoTime();
+        signIn("Hot Author");
+        VibeResponse quiet = share("quiet", VibeVisibility.PUBLIC, tag);
+        VibeResponse hyped = share("hyped", VibeVisibility.PUBLIC, tag);
+        VibeResponse remixed = share("remixed", VibeVisibility.PUBLIC, tag);
+        for (int i = 0; i < 12; i++) {
+            signIn("Hot Fan " + i);
+            communityService.pulse(hyped.getId(), PulseType.HYPE);
+        }
+        RemixRequest request = new RemixRequest();
+        request.setRemixText("again");
+        communityService.remix(remixed.getId(), request);
+
+        CursorPage<VibeResponse> first = communityService.getFeed(null, tag, null, FeedSort.HOT, null, 2);
+        assertThat(ids(first.getItems())).containsExactly(hyped.getId(), remixed.getId());
+
+        CursorPage<VibeResponse> second = communityService.getFeed(null, tag, null, FeedSort.HOT, first.getNextCursor(), 2);
+        assertThat(ids(second.getItems())).containsExactly(quiet.getId());
+        assertThat(second.getNextCursor()).isNull();
+
+        assertThatThrownBy(() -> communityService.getFeed(null, tag, null, FeedSort.RECENT, first.getNextCursor(), 2))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void servesRepeatedFeedReadsFromCacheUntilAPostChanges() {
+        String tag = "cachetag" + System.nanoTime();
+        signIn("Cache Tester");
+        VibeResponse older = share("older", VibeVisibility.PUBLIC, tag);
+
+        assertThat(feed(null, tag, null)).containsExactly(older.getId());
+        assertThat(statementsFor(() -> feed(null, tag, null))).isZero();
+
+        communityService.pulse(older.getId(), PulseType.CHILL);
+        assertThat(communityService.getFeed(null, tag, null, null, null, null).getItems())
+                .singleElement()
+                .satisfies(vibe -> assertThat(vibe.getPulses()).containsEntry("CHILL", 1L));
+
+        VibeResponse newer = share("newer", VibeVisibility.PUBLIC, tag.toUpperCase());
+        assertThat(feed(null, " " + tag.toUpperCase(), null)).containsExactly(newer.getId(), older.getId());
+    }
+
+    @Test
+    void pagesThroughRemixesOldestFirstWithOneQueryPerPage() {
+        signIn("Remix Author");
+        VibeResponse vibe = share("remix source", VibeVisibility.PUBLIC);
+        for (int i = 0; i < 7; i++) {
+            signIn("Remixer " + i);
+            RemixRequest request = new RemixRequest();
+            request.setRemixText("take " + i);
+            communityService.remix(vibe.getId(), request);
+        }
+
+        List<String> seen = new ArrayList<>();
+        String cursor = null;
+        do {
+            String after = cursor;
+            AtomicReference<CursorPage<RemixResponse>> page = new AtomicReference<>();
+            long statements = statementsFor(() -> page.set(communityService.getRemixes(vibe.getId(), after, 3)));
+            assertThat(statements).isEqualTo(2);
+            assertThat(page.get().getItems()).allSatisfy(remix -> assertThat(remix.getHandle()).startsWith("community"));
+            page.get().getItems().forEach(remix -> seen.add(remix.getRemixText()));
+            cursor = page.get().getNextCursor();
+        } while (cursor != null);
+
+        assertThat(seen).containsExactly("take 0", "take 1", "take 2", "take 3", "take 4", "take 5", "take 6");
+        assertThatThrownBy(() -> communityService.getRemixes(-1L, null, null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void rejectsMalformedCursor() {
+        assertThatThrownBy(() -> communityService.getFeed(null, null, null, null, "not-a-cursor", null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void signIn(String persona) {
+        int n = USERS.incrementAndGet();
+        UserAccount user = new UserAccount("community" + n + "@genz.com", "community" + n, "password");
+        user.getRoles().add("USER");
+        user.setPersonaTag(persona);
+        userAccountRepository.save(user);
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                user.getEmail(), null, List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+    }
+
+    private VibeResponse share(String text, VibeVisibility visibility, String... tags) {
+        VibeRequest request = new VibeRequest();
+        request.setOriginalText(text);
+        request.setTranslatedText(text);
+        request.setVisibility(visibility);
+        request.setTags(List.of(tags));
+        return communityService.createVibe(request);
+    }
+
+    private List<Long> feed(String persona, String tag, VibeVisibility visibility) {
+        return ids(communityService.getFeed(persona, tag, visibility, null, null, null).getItems());
+    }
+
+    private long statementsFor(Runnable action) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private static List<Long> ids(List<VibeResponse> feed) {
+        return feed.stream().map(VibeResponse::getId).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,126 @@
+package com.genz.translator.service;
+
+import com.genz.translator.dto.community.CursorPage;
+import com.genz.translator.dto.community.FeedSort;
+import com.genz.translator.dto.community.VibeResponse;
+import com.genz.translator.model.community.VibeVisibility;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FeedCacheTest {
+
+    private static final FeedFilter ALL = FeedFilter.of(null, null, null);
+
+    private final AtomicLong nanos = new AtomicLong();
+    // Holds back Caffeine's cleanup and removal notifications until the test runs them
+    private final Queue<Runnable> maintenance = new ArrayDeque<>();
+    private final FeedCache cache = new FeedCache(new SimpleMeterRegistry(), 100, 5000, nanos::get, maintenance::add);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void pageThatReplacesAnExpiredOneKeepsItsReverseIndex() {
+        assertThat(get(page(1L, 2L)).getItems()).extracting(VibeResponse::getId).containsExactly(1L, 2L);
+
+        runMaintenance();
+
+        // The expired page is still in the map when its replacement is stored over it
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(6));
+        assertThat(get(page(2L, 3L)).getItems()).extracting(VibeResponse::getId).containsExactly(2L, 3L);
+        assertThat(loads).hasValue(2);
+        runMaintenance();
+
+        // Post 2 is on both the expired page and its replacement
+        cache.onVibeChanged(new VibeChangedEvent(VibeChangedEvent.Kind.PULSED, vibe(2L)));
+        runMaintenance();
+
+        get(page(2L, 3L));
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    void pageLoadedWhileAnInvalidationLandsIsNotKept() {
+        CursorPage<VibeResponse> first = cache.get(ALL, FeedSort.RECENT, "cursor", 2, () -> {
+            loads.incrementAndGet();
+            CursorPage<VibeResponse> page = page(1L, 2L);
+            cache.onVibeChanged(new VibeChangedEvent(VibeChangedEvent.Kind.REMIXED, vibe(9L)));
+            return page;
+        });
+        assertThat(first.getItems()).hasSize(2);
+        runMaintenance();
+        assertThat(cache.estimatedSize()).isZero();
+
+        get(page(1L, 2L));
+        get(page(1L, 2L));
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void dropsHotAndFirstPagesOfMatchingFeedsOnly() {
+        FeedFilter otherPersona = FeedFilter.of("muse", null, null);
+        assertThat(isCached(ALL, FeedSort.HOT, "cursor")).isFalse();
+        assertThat(isCached(otherPersona, FeedSort.HOT, null)).isFalse();
+        assertThat(isCached(ALL, FeedSort.RECENT, null)).isFalse();
+        assertThat(isCached(ALL, FeedSort.RECENT, "cursor")).isFalse();
+        runMaintenance();
+
+        // A pulse can move the post onto any hot page of a feed it matches
+        cache.onVibeChanged(new VibeChangedEvent(VibeChangedEvent.Kind.PULSED, vibe(9L)));
+        runMaintenance();
+        assertThat(isCached(ALL, FeedSort.HOT, "cursor")).isFalse();
+        assertThat(isCached(otherPersona, FeedSort.HOT, null)).isTrue();
+        assertThat(isCached(ALL, FeedSort.RECENT, null)).isTrue();
+        assertThat(isCached(ALL, FeedSort.RECENT, "cursor")).isTrue();
+
+        // A new post also lands on the first page of newest-first feeds
+        cache.onVibeChanged(new VibeChangedEvent(VibeChangedEvent.Kind.CREATED, vibe(10L)));
+        runMaintenance();
+        assertThat(isCached(ALL, FeedSort.HOT, "cursor")).isFalse();
+        assertThat(isCached(otherPersona, FeedSort.HOT, null)).isTrue();
+        assertThat(isCached(ALL, FeedSort.RECENT, null)).isFalse();
+        assertThat(isCached(ALL, FeedSort.RECENT, "cursor")).isTrue();
+    }
+
+    private void runMaintenance() {
+        Runnable task;
+        while ((task = maintenance.poll()) != null) {
+            task.run();
+        }
+    }
+
+    private CursorPage<VibeResponse> get(CursorPage<VibeResponse> loaded) {
+        return cache.get(ALL, FeedSort.RECENT, "cursor", 2, () -> {
+            loads.incrementAndGet();
+            return loaded;
+        });
+    }
+
+    private boolean isCached(FeedFilter filter, FeedSort sort, String cursor) {
+        int before = loads.get();
+        cache.get(filter, sort, cursor, 2, () -> {
+            loads.incrementAndGet();
+            return page(1L);
+        });
+        return loads.get() == before;
+    }
+
+    private static CursorPage<VibeResponse> page(Long... ids) {
+        return new CursorPage<>(Arrays.stream(ids).map(FeedCacheTest::vibe).toList(), null);
+    }
+
+    private static VibeResponse vibe(Long id) {
+        return new VibeResponse(id, "handle", "ORACLE", "#000000", "text", "text", "insight",
+                List.of(), VibeVisibility.PUBLIC, LocalDateTime.now(), 0, Map.of());
+    }
+}
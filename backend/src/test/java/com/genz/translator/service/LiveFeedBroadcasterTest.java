@@ -0,0 +1,94 @@
+package com.genz.translator.service;
+
+import com.genz.translator.dto.community.VibeRequest;
+import com.genz.translator.dto.community.VibeResponse;
+import com.genz.translator.model.UserAccount;
+import com.genz.translator.model.community.PulseType;
+import com.genz.translator.repository.UserAccountRepository;
+import com.genz.translator.security.UserPrincipal;
+import com.genz.translator.security.jwt.JwtService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class LiveFeedBroadcasterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CommunityService communityService;
+
+    @Autowired
+    private UserAccountRepository userAccountRepository;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @AfterEach
+    void signOut() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void pushesMatchingVibesAndCountChangesToSubscribers() throws Exception {
+        UserAccount user = new UserAccount("live" + System.nanoTime() + "@genz.com", "live" + System.nanoTime(), "password");
+        user.getRoles().add("USER");
+        userAccountRepository.save(user);
+        String token = jwtService.generateAccessToken(new UserPrincipal(user), Map.of());
+        String tag = "livetag" + System.nanoTime();
+
+        MvcResult stream = mockMvc.perform(get("/api/community/vibes/live")
+                        .param("tag", tag)
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MockHttpServletResponse response = stream.getResponse();
+
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                user.getEmail(), null, new UserPrincipal(user).getAuthorities()));
+        share("not for this stream", "othertag");
+        VibeResponse vibe = share("live one", tag);
+        communityService.pulse(vibe.getId(), PulseType.COSMIC);
+
+        // The event name and its data may be flushed separately, so wait for the data itself
+        String body = awaitContent(response, "\"COSMIC\":1");
+        assertThat(body).contains("event:vibe", "live one", "event:counts");
+        assertThat(body).doesNotContain("not for this stream");
+    }
+
+    private VibeResponse share(String text, String tag) {
+        VibeRequest request = new VibeRequest();
+        request.setOriginalText(text);
+        request.setTranslatedText(text);
+        request.setTags(List.of(tag));
+        return communityService.createVibe(request);
+    }
+
+    private static String awaitContent(MockHttpServletResponse response, String marker) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        String body = response.getContentAsString();
+        while (!body.contains(marker) && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+            body = response.getContentAsString();
+        }
+        return body;
+    }
+}
@@ -0,0 +1,40 @@
+package com.genz.translator.service;
+
+import com.genz.translator.model.Term;
+import com.genz.translator.repository.TermRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class TermPopularityCounterTest {
+
+    @Autowired
+    private TermPopularityCounter popularityCounter;
+
+    @Autowired
+    private TermRepository termRepository;
+
+    @Test
+    void coalescesConcurrentHitsIntoOneFlush() throws InterruptedException {
+        Term term = termRepository.save(new Term("no cap", "no lie", "slang"));
+
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 1000; i++) {
+            pool.execute(() -> popularityCounter.record(term.getId()));
+        }
+        pool.shutdown();
+        assertThat(pool.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        popularityCounter.flush();
+
+        assertThat(popularityCounter.pendingHits()).isZero();
+        assertThat(termRepository.findById(term.getId()).orElseThrow().getPopularityScore()).isEqualTo(1000);
+    }
+}
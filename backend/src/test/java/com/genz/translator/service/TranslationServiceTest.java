@@ -0,0 +1,120 @@
+package com.genz.translator.service;
+
+import com.genz.translator.dto.BatchTranslationResponse;
+import com.genz.translator.dto.TranslationResponse;
+import com.genz.translator.model.Term;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class TranslationServiceTest {
+
+    @Autowired
+    private TranslationService translationService;
+
+    @Autowired
+    private TranslationHistoryWriter historyWriter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void seedDictionary() {
+        if (translationService.searchTerms("bussin").isEmpty()) {
+            translationService.addTerm(new Term("bussin", "really good", "descriptive"));
+            translationService.addTerm(new Term("fr", "for real", "abbreviation"));
+        }
+    }
+
+    @Test
+    void translatesAndWritesHistoryBehind() {
+        TranslationResponse response = translationService.translateText("this is bussin fr");
+
+        assertThat(response.getTranslatedText()).isEqualTo("This is really good for real");
+        assertThat(response.getTermsFound()).containsExactly("bussin", "fr");
+
+        historyWriter.flush();
+
+        Long historyId = jdbcTemplate.queryForObject(
+                "SELECT MAX(id) FROM translation_history WHERE original_text = ?", Long.class, "this is bussin fr");
+        assertThat(historyId).isNotNull();
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT term FROM translation_history_terms WHERE history_id = ?", String.class, historyId))
+                .containsExactlyInAnyOrder("bussin", "fr");
+    }
+
+    @Test
+    void servesRepeatedTextFromCacheUntilDictionaryChanges() {
+        String text = "ngl bussin " + System.nanoTime();
+        double hitsBefore = translationCacheHits();
+
+        translationService.translateText(text);
+        translationService.translateText(text);
+        assertThat(translationCacheHits()).isEqualTo(hitsBefore + 1);
+
+        translationService.addTerm(new Term("ngl", "not going to lie", "abbreviation"));
+        TranslationResponse refreshed = translationService.translateText(text);
+
+        assertThat(refreshed.getTranslatedText()).startsWith("Not going to lie really good");
+        assertThat(translationCacheHits()).isEqualTo(hitsBefore + 1);
+    }
+
+    @Test
+    void translatesBatchInOrder() {
+        List<String> texts = IntStream.range(0, 500)
+                .mapToObj(i -> i % 2 == 0 ? "bussin #" + i : "nothing #" + i)
+                .collect(Collectors.toList());
+
+        BatchTranslationResponse response = translationService.translateBatch(texts);
+
+        assertThat(response.getCount()).isEqualTo(500);
+        assertThat(response.getResults().get(0).getTranslatedText()).isEqualTo("Really good #0");
+        assertThat(response.getResults().get(0).getTermsFound()).containsExactly("bussin");
+        assertThat(response.getResults().get(499).getTranslatedText()).isEqualTo("Nothing #499");
+        assertThat(response.getResults().get(499).getTermsFound()).isEmpty();
+        assertThat(response.getResults()).extracting(TranslationResponse::getOriginalText).isEqualTo(texts);
+    }
+
+    @Test
+    void streamsOneResultPerInputLine() throws IOException {
+        StringWriter plain = new StringWriter();
+        long plainCount = translationService.translateStream(
+                new StringReader("bussin fr\r\n\nnothing here"), plain, false);
+
+        assertThat(plainCount).isEqualTo(3);
+        String[] lines = plain.toString().split("\n");
+        assertThat(lines).hasSize(3);
+        assertThat(lines[0]).contains("\"translatedText\":\"Really good for real\"");
+        assertThat(lines[1]).contains("\"originalText\":\"\"");
+
+        StringWriter ndjson = new StringWriter();
+        translationService.translateStream(
+                new StringReader("{\"text\":\"fr\"}\nnot json\n"), ndjson, true);
+
+        String[] results = ndjson.toString().split("\n");
+        assertThat(results).hasSize(2);
+        assertThat(results[0]).contains("\"translatedText\":\"For real\"", "\"success\":true");
+        assertThat(results[1]).contains("\"success\":false");
+    }
+
+    private double translationCacheHits() {
+        return meterRegistry.get("cache.gets").tag("cache", "translations").tag("result", "hit")
+                .functionCounter().count();
+    }
+}
@@ -70,6 +70,12 @@ CREATE TABLE vibe_posts (
     accent_color VARCHAR(12),
     visibility VARCHAR(20) DEFAULT 'PUBLIC',
     remix_count INTEGER DEFAULT 0,
+    pulse_mind_bend INTEGER DEFAULT 0 NOT NULL,
+    pulse_chill INTEGER DEFAULT 0 NOT NULL,
+    pulse_hype INTEGER DEFAULT 0 NOT NULL,
+    pulse_sage INTEGER DEFAULT 0 NOT NULL,
+    pulse_cosmic INTEGER DEFAULT 0 NOT NULL,
+    hot_score DOUBLE PRECISION DEFAULT 0 NOT NULL,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
 );
@@ -101,6 +107,12 @@ CREATE INDEX idx_terms_genz_text ON terms(genz_text);
 CREATE INDEX idx_terms_category ON terms(category);
 CREATE INDEX idx_terms_popularity ON terms(popularity_score DESC);
 CREATE INDEX idx_history_created_at ON translation_history(created_at DESC);
+CREATE INDEX idx_vibe_posts_created_at ON vibe_posts(created_at DESC, id DESC);
+CREATE INDEX idx_vibe_posts_hot_score ON vibe_posts(hot_score DESC, id DESC);
+CREATE INDEX idx_vibe_posts_visibility_created_at ON vibe_posts(visibility, created_at DESC, id DESC);
+CREATE INDEX idx_vibe_posts_persona_created_at ON vibe_posts(lower(persona_tag), created_at DESC, id DESC);
+CREATE INDEX idx_vibe_tags_tag ON vibe_tags(tag, vibe_id);
+CREATE INDEX idx_remix_threads_vibe_created_at ON remix_threads(vibe_id, created_at, id);
 
 -- Insert initial Gen Z terms data
 
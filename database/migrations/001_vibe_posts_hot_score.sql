@@ -0,0 +1,7 @@
+-- Adds the hot feed column and index to a database created from an older init.sql.
+-- Safe to run more than once. Existing posts start at 0 and get their score from the
+-- pulse counter reconciliation that runs a minute after the backend starts.
+
+ALTER TABLE vibe_posts ADD COLUMN IF NOT EXISTS hot_score DOUBLE PRECISION NOT NULL DEFAULT 0;
+
+CREATE INDEX IF NOT EXISTS idx_vibe_posts_hot_score ON vibe_posts(hot_score DESC, id DESC);